@@ -3,6 +3,7 @@ import org.gradle.api.tasks.testing.logging.TestLogEvent
 
 plugins {
     java
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 java {
@@ -24,6 +25,16 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = project.file("build/reports/jmh/results.json")
+}
+
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-Xlint:unchecked")
     options.compilerArgs.add("-Xlint:deprecation")
@@ -0,0 +1,139 @@
+package autocomplete;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every {@link Autocomplete} implementation on the cities and WCAG datasets and on
+ * a large synthetic dataset of random lowercase terms. Prefixes are sampled from the terms
+ * themselves so that every query has at least one match.
+ *
+ * @see Autocomplete
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AutocompleteBenchmark {
+    /**
+     * Number of prefixes queried per invocation of the allMatches benchmark.
+     */
+    private static final int NUM_PREFIXES = 100;
+    /**
+     * Number of terms in the synthetic dataset.
+     */
+    private static final int SYNTHETIC_SIZE = 1000000;
+
+    @Param({"TreeSetAutocomplete", "SequentialSearchAutocomplete", "BinarySearchAutocomplete",
+            "TernarySearchTreeAutocomplete"})
+    public String implementation;
+
+    @Param({"cities", "wcag", "synthetic"})
+    public String dataset;
+
+    private List<CharSequence> terms;
+    private List<CharSequence> prefixes;
+    private Autocomplete autocomplete;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        terms = switch (dataset) {
+            case "cities" -> readColumn("data/cities.tsv", 0);
+            case "wcag" -> readColumn("data/wcag.tsv", 1);
+            case "synthetic" -> syntheticTerms(new Random(373));
+            default -> throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        };
+        Random random = new Random(373);
+        prefixes = new ArrayList<>(NUM_PREFIXES);
+        for (int i = 0; i < NUM_PREFIXES; i += 1) {
+            CharSequence term = terms.get(random.nextInt(terms.size()));
+            prefixes.add(term.subSequence(0, Math.min(term.length(), 1 + random.nextInt(3))));
+        }
+        autocomplete = createAutocomplete(implementation);
+        autocomplete.addAll(terms);
+    }
+
+    /**
+     * Add all terms to an empty instance.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Autocomplete addAll() {
+        Autocomplete result = createAutocomplete(implementation);
+        result.addAll(terms);
+        return result;
+    }
+
+    /**
+     * Find all matches for each sampled prefix.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM_PREFIXES)
+    public void allMatches(Blackhole blackhole) {
+        for (CharSequence prefix : prefixes) {
+            blackhole.consume(autocomplete.allMatches(prefix));
+        }
+    }
+
+    /**
+     * Returns an empty autocomplete instance of the given implementation.
+     *
+     * @param implementation the simple class name of the implementation
+     * @return an empty autocomplete instance of the given implementation
+     */
+    static Autocomplete createAutocomplete(String implementation) {
+        return switch (implementation) {
+            case "TreeSetAutocomplete" -> new TreeSetAutocomplete();
+            case "SequentialSearchAutocomplete" -> new SequentialSearchAutocomplete();
+            case "BinarySearchAutocomplete" -> new BinarySearchAutocomplete();
+            case "TernarySearchTreeAutocomplete" -> new TernarySearchTreeAutocomplete();
+            default -> throw new IllegalArgumentException("Unknown autocomplete: " + implementation);
+        };
+    }
+
+    /**
+     * Returns the non-empty values in the given tab-separated column of the given file.
+     *
+     * @param path the path to the tab-separated file
+     * @param column the index of the column to read
+     * @return the non-empty values in the given column
+     * @throws IOException if the file cannot be read
+     */
+    private static List<CharSequence> readColumn(String path, int column) throws IOException {
+        List<CharSequence> result = new ArrayList<>();
+        try (Scanner input = new Scanner(new FileInputStream(path))) {
+            while (input.hasNextLine()) {
+                String[] line = input.nextLine().split("\t");
+                if (line.length > column && !line[column].isEmpty()) {
+                    result.add(line[column]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns random lowercase terms whose lengths are between 4 and 12 characters.
+     *
+     * @param random the source of randomness
+     * @return random lowercase terms
+     */
+    private static List<CharSequence> syntheticTerms(Random random) {
+        List<CharSequence> result = new ArrayList<>(SYNTHETIC_SIZE);
+        for (int i = 0; i < SYNTHETIC_SIZE; i += 1) {
+            char[] term = new char[4 + random.nextInt(9)];
+            for (int j = 0; j < term.length; j += 1) {
+                term[j] = (char) ('a' + random.nextInt(26));
+            }
+            result.add(new String(term));
+        }
+        return result;
+    }
+}
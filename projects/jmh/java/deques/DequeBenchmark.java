@@ -0,0 +1,125 @@
+package deques;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every {@link Deque} implementation at steady-state sizes. Each benchmark starts from
+ * a deque holding {@code size} elements and leaves it at the same size, so repeated invocations
+ * measure the same workload.
+ *
+ * @see Deque
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DequeBenchmark {
+    /**
+     * Number of operations in each burst for the fluctuating benchmark.
+     */
+    private static final int BURST = 1024;
+
+    @Param({"ArrayDeque", "LinkedDeque", "ArrayListDeque", "ChunkedLinkedDeque", "BoundedDeque", "WorkStealingDeque"})
+    public String implementation;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private Deque<Integer> deque;
+    private int[] indices;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = createDeque(implementation, size + BURST);
+        for (int i = 0; i < size; i += 1) {
+            deque.addLast(i);
+        }
+        Random random = new Random(373);
+        indices = new int[BURST];
+        for (int i = 0; i < BURST; i += 1) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    /**
+     * Queue usage: add one element to the back and remove one from the front.
+     */
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        deque.addLast(next++);
+        return deque.removeFirst();
+    }
+
+    /**
+     * Stack usage at the front: add one element to the front and remove it again.
+     */
+    @Benchmark
+    public Integer addFirstRemoveFirst() {
+        deque.addFirst(next++);
+        return deque.removeFirst();
+    }
+
+    /**
+     * Bursty usage: add a burst of elements to the back, then remove them from alternating ends,
+     * crossing capacity and block boundaries.
+     */
+    @Benchmark
+    @OperationsPerInvocation(3 * BURST)
+    public void fluctuating(Blackhole blackhole) {
+        for (int i = 0; i < BURST; i += 1) {
+            deque.addLast(next++);
+        }
+        for (int i = 0; i < BURST / 2; i += 1) {
+            blackhole.consume(deque.removeFirst());
+            deque.addFirst(next++);
+            blackhole.consume(deque.removeFirst());
+            blackhole.consume(deque.removeLast());
+        }
+    }
+
+    /**
+     * Random access by index.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void get(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(deque.get(index));
+        }
+    }
+
+    /**
+     * Full traversal with the iterator.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (int element : deque) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns an empty deque of the given implementation.
+     *
+     * @param implementation the simple class name of the implementation
+     * @param capacity the capacity for bounded implementations
+     * @return an empty deque of the given implementation
+     */
+    static Deque<Integer> createDeque(String implementation, int capacity) {
+        return switch (implementation) {
+            case "ArrayDeque" -> new ArrayDeque<>();
+            case "LinkedDeque" -> new LinkedDeque<>();
+            case "ArrayListDeque" -> new ArrayListDeque<>();
+            case "ChunkedLinkedDeque" -> new ChunkedLinkedDeque<>();
+            case "BoundedDeque" -> new BoundedDeque<>(capacity, BoundedDeque.OverflowPolicy.REJECT);
+            case "WorkStealingDeque" -> new WorkStealingDeque<>();
+            default -> throw new IllegalArgumentException("Unknown deque: " + implementation);
+        };
+    }
+}
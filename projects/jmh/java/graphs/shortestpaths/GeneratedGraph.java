@@ -0,0 +1,155 @@
+package graphs.shortestpaths;
+
+import graphs.AStarGraph;
+import graphs.Edge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Randomly-generated graphs over the integer vertices 0 through n - 1 for benchmarking shortest path
+ * solvers. Counts calls to {@link #neighbors(Integer)} so that benchmarks can report the number of
+ * vertices each solver settles.
+ */
+class GeneratedGraph implements AStarGraph<Integer> {
+    /**
+     * The outgoing edges of each vertex.
+     */
+    private final List<List<Edge<Integer>>> adjacency;
+    /**
+     * The width of the grid, or 0 if this graph is not a grid.
+     */
+    private final int gridWidth;
+    /**
+     * The number of calls to neighbors since the last reset, which parallel solvers update concurrently.
+     */
+    final LongAdder neighborsCalls = new LongAdder();
+
+    /**
+     * Constructs a graph with the given edges.
+     *
+     * @param adjacency the outgoing edges of each vertex
+     * @param gridWidth the width of the grid, or 0 if the graph is not a grid
+     */
+    private GeneratedGraph(List<List<Edge<Integer>>> adjacency, int gridWidth) {
+        this.adjacency = adjacency;
+        this.gridWidth = gridWidth;
+    }
+
+    /**
+     * Returns a square grid with about n vertices, where each vertex has edges to its four
+     * neighbors with weights between 1 and 10. Manhattan distance is an admissible heuristic.
+     *
+     * @param n the desired number of vertices
+     * @param random the source of randomness
+     * @return a square grid with about n vertices
+     */
+    static GeneratedGraph grid(int n, Random random) {
+        int width = Math.max(2, (int) Math.sqrt(n));
+        List<List<Edge<Integer>>> adjacency = emptyAdjacency(width * width);
+        for (int y = 0; y < width; y += 1) {
+            for (int x = 0; x < width; x += 1) {
+                int v = y * width + x;
+                if (x + 1 < width) {
+                    addBothWays(adjacency, v, v + 1, random);
+                }
+                if (y + 1 < width) {
+                    addBothWays(adjacency, v, v + width, random);
+                }
+            }
+        }
+        return new GeneratedGraph(adjacency, width);
+    }
+
+    /**
+     * Returns a random sparse graph with n vertices and about 4n edges, where a cycle through every
+     * vertex guarantees that all vertices are reachable from 0.
+     *
+     * @param n the number of vertices
+     * @param random the source of randomness
+     * @return a random sparse graph with n vertices
+     */
+    static GeneratedGraph sparse(int n, Random random) {
+        List<List<Edge<Integer>>> adjacency = emptyAdjacency(n);
+        for (int v = 0; v < n; v += 1) {
+            adjacency.get(v).add(new Edge<>(v, (v + 1) % n, 1 + random.nextDouble() * 99));
+            for (int i = 0; i < 3; i += 1) {
+                adjacency.get(v).add(new Edge<>(v, random.nextInt(n), 1 + random.nextDouble() * 99));
+            }
+        }
+        return new GeneratedGraph(adjacency, 0);
+    }
+
+    /**
+     * Returns a random directed acyclic graph with n vertices and about 4n edges, where every edge
+     * goes from a smaller vertex to a larger one no more than 100 apart.
+     *
+     * @param n the number of vertices
+     * @param random the source of randomness
+     * @return a random directed acyclic graph with n vertices
+     */
+    static GeneratedGraph dag(int n, Random random) {
+        List<List<Edge<Integer>>> adjacency = emptyAdjacency(n);
+        for (int v = 0; v + 1 < n; v += 1) {
+            adjacency.get(v).add(new Edge<>(v, v + 1, 1 + random.nextDouble() * 99));
+            for (int i = 0; i < 3; i += 1) {
+                int to = Math.min(n - 1, v + 1 + random.nextInt(100));
+                adjacency.get(v).add(new Edge<>(v, to, 1 + random.nextDouble() * 99));
+            }
+        }
+        return new GeneratedGraph(adjacency, 0);
+    }
+
+    /**
+     * Returns the number of vertices in this graph.
+     *
+     * @return the number of vertices in this graph
+     */
+    int size() {
+        return adjacency.size();
+    }
+
+    @Override
+    public List<Edge<Integer>> neighbors(Integer vertex) {
+        neighborsCalls.increment();
+        return adjacency.get(vertex);
+    }
+
+    @Override
+    public double estimatedDistance(Integer start, Integer end) {
+        if (gridWidth == 0) {
+            return 0.0;
+        }
+        return Math.abs(start % gridWidth - end % gridWidth) + Math.abs(start / gridWidth - end / gridWidth);
+    }
+
+    /**
+     * Returns a list of n empty edge lists.
+     *
+     * @param n the number of vertices
+     * @return a list of n empty edge lists
+     */
+    private static List<List<Edge<Integer>>> emptyAdjacency(int n) {
+        List<List<Edge<Integer>>> result = new ArrayList<>(n);
+        for (int v = 0; v < n; v += 1) {
+            result.add(new ArrayList<>(4));
+        }
+        return result;
+    }
+
+    /**
+     * Adds edges in both directions between the given vertices with independent random weights
+     * between 1 and 10.
+     *
+     * @param adjacency the outgoing edges of each vertex
+     * @param u one vertex
+     * @param v the other vertex
+     * @param random the source of randomness
+     */
+    private static void addBothWays(List<List<Edge<Integer>>> adjacency, int u, int v, Random random) {
+        adjacency.get(u).add(new Edge<>(u, v, 1 + random.nextDouble() * 9));
+        adjacency.get(v).add(new Edge<>(v, u, 1 + random.nextDouble() * 9));
+    }
+}
@@ -0,0 +1,176 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every shortest path solver answering a single query from vertex 0 to the last
+ * vertex of a generated graph. Besides time per query, each benchmark reports the number of
+ * vertices whose neighbors the solver requested as the {@code verticesSettled} counter.
+ * {@link ToposortDAGSolver} only runs on the DAG workload since it is incorrect on graphs with
+ * cycles. Every solver is run once during setup and checked against {@link DijkstraSolver}, so a
+ * solver that crashes or finds a longer path fails the trial up front instead of being timed.
+ *
+ * @see ShortestPathSolver
+ * @see AStarSolver
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ShortestPathBenchmark {
+    @Param({"grid", "sparse", "dag"})
+    public String graphType;
+
+    @Param({"1000", "10000"})
+    public int numVertices;
+
+    private GeneratedGraph graph;
+    private Integer goal;
+
+    /**
+     * Per-iteration counters reported alongside the timing results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        /**
+         * The total number of vertices settled by the solvers in this iteration.
+         */
+        public long verticesSettled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            verticesSettled = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(373);
+        graph = switch (graphType) {
+            case "grid" -> GeneratedGraph.grid(numVertices, random);
+            case "sparse" -> GeneratedGraph.sparse(numVertices, random);
+            case "dag" -> GeneratedGraph.dag(numVertices, random);
+            default -> throw new IllegalArgumentException("Unknown graph: " + graphType);
+        };
+        goal = graph.size() - 1;
+        verifySolvers();
+        graph.neighborsCalls.reset();
+    }
+
+    @Benchmark
+    public List<Integer> dijkstra(Counters counters) {
+        return solve(new DijkstraSolver<>(graph, 0), counters);
+    }
+
+    @Benchmark
+    public List<Integer> deltaStepping(Counters counters) {
+        return solve(new DeltaSteppingSolver<>(graph, 0), counters);
+    }
+
+    @Benchmark
+    public List<Integer> bellmanFord(Counters counters) {
+        return solve(new BellmanFordSolver<>(graph, 0), counters);
+    }
+
+    @Benchmark
+    public List<Integer> spfa(Counters counters) {
+        return solve(new SPFASolver<>(graph, 0), counters);
+    }
+
+    @Benchmark
+    public List<Integer> spfaSlfLll(Counters counters) {
+        return solve(new SPFASolver<>(graph, 0, SPFASolver.QueueDiscipline.SLF_LLL), counters);
+    }
+
+    @Benchmark
+    public List<Integer> toposortDAG(Counters counters) {
+        if (!graphType.equals("dag")) {
+            return List.of();
+        }
+        return solve(new ToposortDAGSolver<>(graph, 0), counters);
+    }
+
+    @Benchmark
+    public List<Integer> toposortDAGInParallel(Counters counters) {
+        if (!graphType.equals("dag")) {
+            return List.of();
+        }
+        return solve(new ToposortDAGSolver<>(graph, 0, ForkJoinPool.commonPool()), counters);
+    }
+
+    @Benchmark
+    public List<Integer> aStar(Counters counters) {
+        graph.neighborsCalls.reset();
+        List<Integer> result = new AStarSolver<>(graph, 0, goal).solution();
+        counters.verticesSettled += graph.neighborsCalls.sumThenReset();
+        return result;
+    }
+
+    /**
+     * Checks that every benchmarked solver finds a path to the goal as short as Dijkstra's.
+     *
+     * @throws IllegalStateException if a solver finds a longer or shorter path
+     */
+    private void verifySolvers() {
+        Map<String, List<Integer>> paths = new LinkedHashMap<>();
+        paths.put("deltaStepping", new DeltaSteppingSolver<>(graph, 0).solution(goal));
+        paths.put("bellmanFord", new BellmanFordSolver<>(graph, 0).solution(goal));
+        paths.put("spfa", new SPFASolver<>(graph, 0).solution(goal));
+        paths.put("spfaSlfLll", new SPFASolver<>(graph, 0, SPFASolver.QueueDiscipline.SLF_LLL).solution(goal));
+        if (graphType.equals("dag")) {
+            paths.put("toposortDAG", new ToposortDAGSolver<>(graph, 0).solution(goal));
+            paths.put("toposortDAGInParallel",
+                    new ToposortDAGSolver<>(graph, 0, ForkJoinPool.commonPool()).solution(goal));
+        }
+        paths.put("aStar", new AStarSolver<>(graph, 0, goal).solution());
+        double expected = cost(new DijkstraSolver<>(graph, 0).solution(goal));
+        for (Map.Entry<String, List<Integer>> entry : paths.entrySet()) {
+            double actual = cost(entry.getValue());
+            if (Math.abs(actual - expected) > 1e-9 * Math.max(1, expected)) {
+                throw new IllegalStateException(entry.getKey() + " found a path of cost " + actual
+                        + " instead of " + expected + " on " + graphType);
+            }
+        }
+    }
+
+    /**
+     * Returns the total weight of the cheapest edges along the given path.
+     *
+     * @param path the list of vertices on the path
+     * @return the total weight of the path
+     */
+    private double cost(List<Integer> path) {
+        double result = 0.0;
+        for (int i = 1; i < path.size(); i += 1) {
+            double best = Double.POSITIVE_INFINITY;
+            for (Edge<Integer> e : graph.neighbors(path.get(i - 1))) {
+                if (e.to.equals(path.get(i))) {
+                    best = Math.min(best, e.weight);
+                }
+            }
+            result += best;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the path to the goal found by the given solver, counting the vertices it settled.
+     *
+     * @param solver the solver that already ran on the graph
+     * @param counters the counters to update
+     * @return the path to the goal
+     */
+    private List<Integer> solve(ShortestPathSolver<Integer> solver, Counters counters) {
+        counters.verticesSettled += graph.neighborsCalls.sumThenReset();
+        return solver.solution(goal);
+    }
+}
@@ -0,0 +1,97 @@
+package minpq;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every {@link MinPQ} implementation. The hold benchmark repeatedly removes the
+ * minimum and adds a new element with a larger priority, the access pattern of Dijkstra's
+ * algorithm, so monotone implementations such as {@link RadixHeapMinPQ} are measured fairly.
+ *
+ * @see MinPQ
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MinPQBenchmark {
+    @Param({"OptimizedHeapMinPQ", "HeapMinPQ", "DoubleMapMinPQ", "UnsortedArrayMinPQ", "PairingHeapMinPQ",
+            "RadixHeapMinPQ", "OffHeapMinPQ", "BTreeMinPQ", "MultiQueueMinPQ"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private MinPQ<Integer> pq;
+    private Map<Integer, Double> elementsAndPriorities;
+    private Map<Integer, Double> priorities;
+    private Random random;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new Random(373);
+        elementsAndPriorities = new HashMap<>();
+        for (int i = 0; i < size; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble() * size);
+        }
+        pq = createMinPQ(implementation);
+        pq.addAll(elementsAndPriorities);
+        priorities = new HashMap<>(elementsAndPriorities);
+        next = size;
+    }
+
+    /**
+     * Remove the minimum and add a new element with a priority no smaller than the removed one. The removed element's
+     * priority is looked up after removing it, since a relaxed implementation such as {@link MultiQueueMinPQ} may not
+     * remove the element that peekMin returned.
+     */
+    @Benchmark
+    public Integer hold() {
+        Integer min = pq.removeMin();
+        double priority = priorities.remove(min) + random.nextDouble() * size;
+        priorities.put(next, priority);
+        pq.add(next, priority);
+        next += 1;
+        return min;
+    }
+
+    /**
+     * Build a priority queue from all the elements at once, then remove all of them in order.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void buildAndDrain(Blackhole blackhole) {
+        MinPQ<Integer> drained = createMinPQ(implementation);
+        drained.addAll(elementsAndPriorities);
+        while (!drained.isEmpty()) {
+            blackhole.consume(drained.removeMin());
+        }
+    }
+
+    /**
+     * Returns an empty priority queue of the given implementation.
+     *
+     * @param implementation the simple class name of the implementation
+     * @return an empty priority queue of the given implementation
+     */
+    static MinPQ<Integer> createMinPQ(String implementation) {
+        return switch (implementation) {
+            case "OptimizedHeapMinPQ" -> new OptimizedHeapMinPQ<>();
+            case "HeapMinPQ" -> new HeapMinPQ<>();
+            case "DoubleMapMinPQ" -> new DoubleMapMinPQ<>();
+            case "UnsortedArrayMinPQ" -> new UnsortedArrayMinPQ<>();
+            case "PairingHeapMinPQ" -> new PairingHeapMinPQ<>();
+            case "RadixHeapMinPQ" -> new RadixHeapMinPQ<>();
+            case "OffHeapMinPQ" -> new OffHeapMinPQ<>();
+            case "BTreeMinPQ" -> new BTreeMinPQ<>();
+            case "MultiQueueMinPQ" -> new MultiQueueMinPQ<>();
+            default -> throw new IllegalArgumentException("Unknown priority queue: " + implementation);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package seamfinding;
+
+import graphs.shortestpaths.DijkstraSolver;
+import graphs.shortestpaths.ToposortDAGSolver;
+import org.openjdk.jmh.annotations.*;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for every {@link SeamFinder} implementation finding one horizontal seam in the sample
+ * images or in a synthetic image of random colors.
+ *
+ * @see SeamFinder
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class SeamFinderBenchmark {
+    /**
+     * The base directory path for the sample images.
+     */
+    private static final String BASE_PATH = "data/seamcarving/";
+
+    @Param({"DynamicProgramming", "AdjacencyList-Dijkstra", "AdjacencyList-ToposortDAG", "Generative-Dijkstra",
+            "Generative-ToposortDAG"})
+    public String seamFinder;
+
+    @Param({"HJoceanSmall", "chameleon", "random-250", "random-1000"})
+    public String image;
+
+    private SeamFinder finder;
+    private Picture picture;
+    private EnergyFunction f;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        finder = switch (seamFinder) {
+            case "DynamicProgramming" -> new DynamicProgrammingSeamFinder();
+            case "AdjacencyList-Dijkstra" -> new AdjacencyListSeamFinder(DijkstraSolver::new);
+            case "AdjacencyList-ToposortDAG" -> new AdjacencyListSeamFinder(ToposortDAGSolver::new);
+            case "Generative-Dijkstra" -> new GenerativeSeamFinder(DijkstraSolver::new);
+            case "Generative-ToposortDAG" -> new GenerativeSeamFinder(ToposortDAGSolver::new);
+            default -> throw new IllegalArgumentException("Unknown seam finder: " + seamFinder);
+        };
+        if (image.startsWith("random-")) {
+            int size = Integer.parseInt(image.substring("random-".length()));
+            picture = randomPicture(size, size, new SplittableRandom(373));
+        } else {
+            picture = new Picture(new File(BASE_PATH + image + ".png"));
+        }
+        f = new DualGradientEnergyFunction();
+    }
+
+    @Benchmark
+    public List<Integer> findHorizontal() {
+        return finder.findHorizontal(picture, f);
+    }
+
+    /**
+     * Returns a new picture with the given width and height dimensions filled with random colors.
+     *
+     * @param width the horizontal dimension for the picture
+     * @param height the vertical dimension for the picture
+     * @param random the source of randomness
+     * @return a new picture with the given width and height dimensions filled with random colors
+     */
+    private static Picture randomPicture(int width, int height, SplittableRandom random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y += 1) {
+            int[] row = random.ints(4L * width, 0, 256).toArray();
+            image.getRaster().setPixels(0, y, width, 1, row);
+        }
+        return new Picture(image);
+    }
+}
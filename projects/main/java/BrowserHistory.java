@@ -1,4 +1,5 @@
 import deques.ArrayDeque;
+import deques.BoundedDeque;
 import deques.Deque;
 
 /**
@@ -24,5 +25,13 @@ public class BrowserHistory {
         history.removeFirst();
         history.removeFirst();
         System.out.println(history);
+
+        // Keep only the latest three pages: visiting a fourth page evicts the oldest page.
+        Deque<String> recent = new BoundedDeque<>(3, BoundedDeque.OverflowPolicy.EVICT_OLDEST);
+        recent.addLast("uw.edu");
+        recent.addLast("my.uw.edu");
+        recent.addLast("cs.uw.edu");
+        recent.addLast("canvas.uw.edu");
+        System.out.println(recent);
     }
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ import autocomplete.Autocomplete;
 import autocomplete.TreeSetAutocomplete;
 import graphs.AStarGraph;
 import graphs.Edge;
-import graphs.shortestpaths.AStarSolver;
-import minpq.DoubleMapMinPQ;
+import graphs.shortestpaths.DistanceMatrix;
+import graphs.shortestpaths.SolverWorkspace;
+import minpq.Selection;
 import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.distance.DistanceUtils;
 import org.locationtech.spatial4j.shape.Point;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
@@ -16,6 +18,7 @@ import javax.xml.parsers.SAXParserFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -32,6 +35,7 @@ public class MapGraph implements AStarGraph<Point> {
     private final Map<String, List<Point>> locations;
     private final Autocomplete autocomplete;
     private final Map<CharSequence, Integer> importance;
+    private final ThreadLocal<SolverWorkspace<Point>> workspaces = ThreadLocal.withInitial(SolverWorkspace::new);
 
     /**
      * Constructs a new map graph from the path to an OSM GZ file and a places TSV.
@@ -119,7 +123,7 @@ public class MapGraph implements AStarGraph<Point> {
         for (CharSequence match : matches) {
             elementsAndPriorities.put(match, (double) importance.get(match));
         }
-        return new DoubleMapMinPQ<>(elementsAndPriorities).removeMin(maxMatches);
+        return Selection.smallest(elementsAndPriorities, maxMatches);
     }
 
     /**
@@ -140,12 +144,117 @@ public class MapGraph implements AStarGraph<Point> {
      * @return a list of points representing the shortest path from the points closest to the start and goal.
      */
     public List<Point> shortestPath(Point start, Point goal) {
-        return new AStarSolver<>(this, closest(start), closest(goal)).solution();
+        // Reuse a workspace per server thread so that routing queries do not reallocate solver state.
+        return workspaces.get().aStar(this, closest(start), closest(goal));
+    }
+
+    /**
+     * Returns the shortest travel distances from each source to each target, each snapped to the closest point in
+     * the graph. Each source runs one search that stops once all targets are reached, and sources run in parallel.
+     *
+     * @param sources the sources, such as depots, one per row.
+     * @param targets the targets, such as customers, one per column.
+     * @return the distance matrix from the points closest to the sources to the points closest to the targets.
+     */
+    public DistanceMatrix<Point> distanceMatrix(List<Point> sources, List<Point> targets) {
+        List<Point> from = new ArrayList<>(sources.size());
+        for (Point source : sources) {
+            from.add(closest(source));
+        }
+        List<Point> to = new ArrayList<>(targets.size());
+        for (Point target : targets) {
+            to.add(closest(target));
+        }
+        // Searches reuse the per-thread workspaces, including on the fork-join pool's worker threads.
+        return new DistanceMatrix<>(this, from, to, ForkJoinPool.commonPool(), workspaces::get);
+    }
+
+    /**
+     * Returns all points reachable within the given travel distance from the point closest to the start. The search
+     * stops at the distance cutoff, so it only explores the neighborhood of the start.
+     *
+     * @param start  the {@link Point} to start from.
+     * @param meters the maximum travel distance in meters.
+     * @return the points within the given travel distance of the point closest to the start.
+     */
+    public List<Point> reachable(Point start, double meters) {
+        return workspaces.get().within(this, closest(start), metersToDegrees(meters));
+    }
+
+    /**
+     * Returns the given distance along the earth's surface in meters as an angle in degrees, the unit of edge weights.
+     *
+     * @param meters the distance in meters.
+     * @return the angle in degrees subtended by the distance at the earth's center.
+     */
+    static double metersToDegrees(double meters) {
+        return meters / 1000 * DistanceUtils.KM_TO_DEG;
+    }
+
+    /**
+     * Returns the convex hull of the given points in counterclockwise order, treating longitude and latitude as
+     * planar coordinates, which is accurate enough at city scale. The first point is not repeated at the end, and
+     * points at the same coordinates count once, so fewer than three distinct points or points that all lie on a line
+     * result in fewer than three vertices.
+     *
+     * @param points the points to enclose.
+     * @return the vertices of the smallest convex polygon containing all the points.
+     */
+    public static List<Point> convexHull(Collection<Point> points) {
+        List<Point> sorted = new ArrayList<>(points);
+        sorted.sort(Comparator.comparingDouble(Point::getLon).thenComparingDouble(Point::getLat));
+        // Coincident points are adjacent after sorting, and the chains below assume distinct points.
+        int distinct = 0;
+        for (Point point : sorted) {
+            Point last = distinct == 0 ? null : sorted.get(distinct - 1);
+            if (last == null || last.getLon() != point.getLon() || last.getLat() != point.getLat()) {
+                sorted.set(distinct, point);
+                distinct += 1;
+            }
+        }
+        sorted.subList(distinct, sorted.size()).clear();
+        if (sorted.size() < 3) {
+            return sorted;
+        }
+        // Andrew's monotone chain: build the lower hull left to right, then the upper hull right to left.
+        Point[] hull = new Point[2 * sorted.size()];
+        int size = 0;
+        for (int i = 0; i < sorted.size(); i += 1) {
+            while (size >= 2 && cross(hull[size - 2], hull[size - 1], sorted.get(i)) <= 0) {
+                size -= 1;
+            }
+            hull[size] = sorted.get(i);
+            size += 1;
+        }
+        for (int i = sorted.size() - 2, lower = size + 1; i >= 0; i -= 1) {
+            while (size >= lower && cross(hull[size - 2], hull[size - 1], sorted.get(i)) <= 0) {
+                size -= 1;
+            }
+            hull[size] = sorted.get(i);
+            size += 1;
+        }
+        // The last point added is the first point again.
+        return Arrays.asList(Arrays.copyOf(hull, size - 1));
+    }
+
+    /**
+     * Returns the z-component of the cross product of the vectors from o to a and from o to b, which is positive if
+     * and only if o, a, b make a counterclockwise turn.
+     *
+     * @param o the common origin.
+     * @param a the end of the first vector.
+     * @param b the end of the second vector.
+     * @return the z-component of the cross product.
+     */
+    private static double cross(Point o, Point a, Point b) {
+        return (a.getLon() - o.getLon()) * (b.getLat() - o.getLat())
+                - (a.getLat() - o.getLat()) * (b.getLon() - o.getLon());
     }
 
     @Override
     public List<Edge<Point>> neighbors(Point point) {
-        return neighbors.computeIfAbsent(point, (p) -> List.of());
+        // Read-only so that concurrent searches never modify the map.
+        return neighbors.getOrDefault(point, List.of());
     }
 
     @Override
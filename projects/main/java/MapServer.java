@@ -7,7 +7,9 @@ import org.locationtech.spatial4j.shape.ShapeFactory;
 
 import java.net.*;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Run the Husky Maps server.
@@ -33,6 +35,10 @@ public class MapServer {
      * Maximum number of autocomplete search results.
      */
     private static final int MAX_MATCHES = 10;
+    /**
+     * Maximum travel distance in meters for isochrone queries, which keeps each query to a neighborhood.
+     */
+    private static final double MAX_ISOCHRONE_METERS = 20_000;
 
     public static void main(String[] args) throws Exception {
         SpatialContext context = SpatialContext.GEO;
@@ -69,6 +75,24 @@ public class MapServer {
         app.get("/search", ctx -> {
             ctx.json(map.getLocationsByPrefix(ctx.queryParam("term"), MAX_MATCHES));
         });
+        app.get("/isochrone", ctx -> {
+            double lon = ctx.queryParamAsClass("lon", Double.class).get();
+            double lat = ctx.queryParamAsClass("lat", Double.class).get();
+            double meters = ctx.queryParamAsClass("meters", Double.class)
+                    .check(m -> m >= 0 && m <= MAX_ISOCHRONE_METERS,
+                            "meters must be between 0 and " + MAX_ISOCHRONE_METERS)
+                    .get();
+            List<Point> reachable = map.reachable(factory.pointLatLon(lat, lon), meters);
+            List<double[]> hull = coordinates(MapGraph.convexHull(reachable));
+            if (hull.size() >= 3) {
+                // Close the polygon ring as in GeoJSON, which needs at least three distinct corners.
+                hull.add(hull.get(0));
+            }
+            ctx.json(Map.of(
+                    "reachable", coordinates(reachable),
+                    "hull", hull
+            ));
+        });
     }
 
     /**
@@ -133,6 +157,20 @@ public class MapServer {
         )).toURL();
     }
 
+    /**
+     * Returns the longitude and latitude of each point, in the coordinate order used by GeoJSON.
+     *
+     * @param points the list of points.
+     * @return a mutable list of {@code [lon, lat]} pairs.
+     */
+    private static List<double[]> coordinates(List<Point> points) {
+        List<double[]> result = new ArrayList<>(points.size());
+        for (Point point : points) {
+            result.add(new double[]{point.getLon(), point.getLat()});
+        }
+        return result;
+    }
+
     /**
      * Returns an encoded route string.
      *
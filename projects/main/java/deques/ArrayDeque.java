@@ -1,15 +1,22 @@
 package deques;
 
+import java.util.*;
+import java.util.function.Consumer;
+
 /**
- * An array implementation of the {@link Deque} interface.
+ * An array implementation of the {@link Deque} interface. The underlying array is used as a ring
+ * buffer whose length is always a power of two, so indices wrap around with a bitmask instead of a
+ * modulo or a branch. When and how far the buffer grows and shrinks is decided by a
+ * {@link ResizePolicy}, and the number of resizes and elements copied by them is recorded.
  *
  * @see Deque
+ * @see ResizePolicy
  */
 public class ArrayDeque<E> implements Deque<E> {
     /**
-     * The initial capacity for the underlying array of elements.
+     * The rules for growing and shrinking the underlying array.
      */
-    private static final int INITIAL_CAPACITY = 8;
+    private final ResizePolicy policy;
     /**
      * The underlying array of elements stored in this deque.
      */
@@ -26,35 +33,55 @@ public class ArrayDeque<E> implements Deque<E> {
      * The number of elements in this deque.
      */
     private int size;
+    /**
+     * The number of times the underlying array has been resized.
+     */
+    private long resizeCount;
+    /**
+     * The total number of elements copied by resizing the underlying array.
+     */
+    private long copiedElementCount;
 
     /**
-     * Constructs an empty deque.
+     * Constructs an empty deque with the default resize policy.
      */
-    @SuppressWarnings("unchecked")
     public ArrayDeque() {
-        data = (E[]) new Object[INITIAL_CAPACITY];
+        this(ResizePolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty deque with the given resize policy.
+     *
+     * @param policy the rules for growing and shrinking the underlying array
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayDeque(ResizePolicy policy) {
+        this.policy = policy;
+        data = (E[]) new Object[policy.minCapacity()];
         front = 0;
-        back = 1;
+        back = 1 & (data.length - 1);
         size = 0;
+        resizeCount = 0;
+        copiedElementCount = 0;
     }
 
     @Override
     public void addFirst(E element) {
         if (size == data.length) {
-            resize(data.length * 2);
+            resize(policy.grow(data.length));
         }
         data[front] = element;
-        front = decrement(front, data.length);
+        front = (front - 1) & (data.length - 1);
         size += 1;
     }
 
     @Override
     public void addLast(E element) {
         if (size == data.length) {
-            resize(data.length * 2);
+            resize(policy.grow(data.length));
         }
         data[back] = element;
-        back = increment(back, data.length);
+        back = (back + 1) & (data.length - 1);
         size += 1;
     }
 
@@ -63,12 +90,12 @@ public class ArrayDeque<E> implements Deque<E> {
         if (size == 0) {
             return null;
         }
-        front = increment(front, data.length);
+        front = (front + 1) & (data.length - 1);
         E result = data[front];
         data[front] = null;
         size -= 1;
-        if (needsDownsize()) {
-            resize(data.length / 2);
+        if (policy.shouldShrink(size, data.length)) {
+            resize(policy.shrink(size));
         }
         return result;
     }
@@ -78,24 +105,66 @@ public class ArrayDeque<E> implements Deque<E> {
         if (size == 0) {
             return null;
         }
-        back = decrement(back, data.length);
+        back = (back - 1) & (data.length - 1);
         E result = data[back];
         data[back] = null;
         size -= 1;
-        if (needsDownsize()) {
+        if (policy.shouldShrink(size, data.length)) {
             // The logs narrow the error down to the resize method!
-            resize(data.length / 2);
+            resize(policy.shrink(size));
         }
         return result;
     }
 
+    /**
+     * {@inheritDoc} Grows the underlying array at most once and copies the elements in with at most
+     * two array copies.
+     */
+    @Override
+    public void addAllLast(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        if (size + array.length > data.length) {
+            resize(policy.capacityFor(size + array.length));
+        }
+        int firstSegment = Math.min(array.length, data.length - back);
+        System.arraycopy(array, 0, data, back, firstSegment);
+        System.arraycopy(array, firstSegment, data, 0, array.length - firstSegment);
+        back = (back + array.length) & (data.length - 1);
+        size += array.length;
+    }
+
+    /**
+     * {@inheritDoc} Copies the elements out with at most two array copies and shrinks the
+     * underlying array at most once.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super E> collection, int numElements) {
+        int count = Math.max(0, Math.min(numElements, size));
+        if (count == 0) {
+            return 0;
+        }
+        E[] removed = (E[]) new Object[count];
+        copyFirst(removed, 0, count);
+        int first = (front + 1) & (data.length - 1);
+        int firstSegment = Math.min(count, data.length - first);
+        Arrays.fill(data, first, first + firstSegment, null);
+        Arrays.fill(data, 0, count - firstSegment, null);
+        front = (front + count) & (data.length - 1);
+        size -= count;
+        if (policy.shouldShrink(size, data.length)) {
+            resize(policy.shrink(size));
+        }
+        collection.addAll(Arrays.asList(removed));
+        return count;
+    }
+
     @Override
     public E get(int index) {
         if ((index >= size) || (index < 0)) {
             return null;
         }
-        int place = front + 1 + index;
-        return data[place % data.length];
+        return data[(front + 1 + index) & (data.length - 1)];
     }
 
     @Override
@@ -103,79 +172,222 @@ public class ArrayDeque<E> implements Deque<E> {
         return size;
     }
 
-    @Override
-    public String toString() {
-        if (size == 0) {
-            return "[]";
+    /**
+     * Grows the underlying array if necessary so that it can hold at least the given number of
+     * elements without resizing.
+     *
+     * @param numElements the number of elements to hold
+     */
+    public void ensureCapacity(int numElements) {
+        if (numElements > data.length) {
+            resize(policy.capacityFor(numElements));
         }
-        StringBuilder result = new StringBuilder();
-        result.append('[');
-        int i = increment(front, data.length);
-        while (i != back) {
-            result.append(data[i]);
-            i = increment(i, data.length);
-            if (i != back) {
-                result.append(", ");
-            }
+    }
+
+    /**
+     * Shrinks the underlying array to the smallest capacity allowed by the resize policy that can
+     * hold the current elements.
+     */
+    public void trimToSize() {
+        int capacity = policy.capacityFor(size);
+        if (capacity < data.length) {
+            resize(capacity);
         }
-        result.append(']');
-        return result.toString();
     }
 
     /**
-     * Increments the given index i, wrapping back to 0 if it is equal to length - 1.
+     * Returns the length of the underlying array.
      *
-     * @param i the given index
-     * @param length the wrap limit
-     * @return the incremented index
+     * @return the length of the underlying array
      */
-    private static int increment(int i, int length) {
-        if (i == length - 1) {
-            return 0;
-        }
-        return i + 1;
+    public int capacity() {
+        return data.length;
     }
 
     /**
-     * Decrements the given index i, wrapping back to length - 1 if it is equal to 0.
+     * Returns the number of times the underlying array has been resized.
      *
-     * @param i the given index
-     * @param length the wrap limit
-     * @return the decremented index
+     * @return the number of times the underlying array has been resized
      */
-    private static int decrement(int i, int length) {
-        if (i == 0) {
-            return length - 1;
+    public long resizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Returns the total number of elements copied by resizing the underlying array.
+     *
+     * @return the total number of elements copied by resizing
+     */
+    public long copiedElementCount() {
+        return copiedElementCount;
+    }
+
+    /**
+     * {@inheritDoc} Walks the underlying array directly instead of calling get for each index.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                E result = data[(front + 1 + index) & (data.length - 1)];
+                index += 1;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc} Splits the ring buffer into two halves of equal size, so parallel streams
+     * divide the work evenly regardless of where the elements wrap around.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new RingSpliterator<>(data, (front + 1) & (data.length - 1), 0, size);
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder result = new StringBuilder();
+        result.append('[');
+        Iterator<E> iter = iterator();
+        result.append(iter.next());
+        while (iter.hasNext()) {
+            result.append(", ");
+            result.append(iter.next());
         }
-        return i - 1;
+        result.append(']');
+        return result.toString();
     }
 
     /**
      * Updates the length of the underlying element data array to the given capacity, copying over
-     * elements as necessary.
+     * elements as necessary. The elements are copied with at most two array copies, one for each
+     * side of the wrap-around point.
      *
-     * @param capacity the length of the new element data array
+     * @param capacity the length of the new element data array, which must be a power of two
      */
     @SuppressWarnings("unchecked")
     private void resize(int capacity) {
         E[] newData = (E[]) new Object[capacity];
-        int i = increment(front, data.length);
-        for (int newIndex = 0; newIndex < size; newIndex += 1) {
-            newData[newIndex] = data[i];
-            i = increment(i, data.length);
-        }
+        copyFirst(newData, 0, size);
         front = newData.length - 1;
-        back = size;
+        back = size & (newData.length - 1);
         data = newData;
+        resizeCount += 1;
+        copiedElementCount += size;
+    }
+
+    /**
+     * Copies the given number of elements from the front of this deque into the given array,
+     * without removing them.
+     *
+     * @param dest the destination array
+     * @param destIndex the index in the destination array for the first element
+     * @param count the number of elements to copy, at most the size of this deque
+     */
+    private void copyFirst(Object[] dest, int destIndex, int count) {
+        int first = (front + 1) & (data.length - 1);
+        int firstSegment = Math.min(count, data.length - first);
+        System.arraycopy(data, first, dest, destIndex, firstSegment);
+        System.arraycopy(data, 0, dest, destIndex + firstSegment, count - firstSegment);
     }
 
     /**
-     * Returns true if and only if the underlying element data array needs to be downsized. This
-     * helps minimize unused memory when many elements are removed from the deque.
+     * A spliterator over a range of offsets from the first element in a power-of-two ring buffer.
      *
-     * @return true if an element data downsize is necessary
+     * @param <T> the type of elements in the ring buffer
      */
-    private boolean needsDownsize() {
-        return ((double) size) / data.length < 0.25 && data.length > INITIAL_CAPACITY;
+    private static class RingSpliterator<T> implements Spliterator<T> {
+        /**
+         * The ring buffer of elements, whose length is a power of two.
+         */
+        private final T[] data;
+        /**
+         * The array index of the first element in the deque.
+         */
+        private final int first;
+        /**
+         * The offset of the next element to traverse.
+         */
+        private int origin;
+        /**
+         * The offset one past the last element to traverse.
+         */
+        private final int fence;
+
+        /**
+         * Constructs a spliterator over the given range of offsets.
+         *
+         * @param data the ring buffer of elements
+         * @param first the array index of the first element in the deque
+         * @param origin the offset of the first element to traverse
+         * @param fence the offset one past the last element to traverse
+         */
+        RingSpliterator(T[] data, int first, int origin, int fence) {
+            this.data = data;
+            this.first = first;
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (origin >= fence) {
+                return false;
+            }
+            action.accept(data[(first + origin) & (data.length - 1)]);
+            origin += 1;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            // Visit each side of the wrap-around point with a plain loop.
+            int start = (first + origin) & (data.length - 1);
+            int count = fence - origin;
+            int firstSegment = Math.min(count, data.length - start);
+            for (int i = start; i < start + firstSegment; i += 1) {
+                action.accept(data[i]);
+            }
+            for (int i = 0; i < count - firstSegment; i += 1) {
+                action.accept(data[i]);
+            }
+            origin = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            Spliterator<T> prefix = new RingSpliterator<>(data, first, origin, mid);
+            origin = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
     }
 }
@@ -1,6 +1,9 @@
 package deques;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
 
 /**
  * An {@link ArrayList} implementation of the {@link Deque} interface.
@@ -59,6 +62,16 @@ public class ArrayListDeque<E> implements Deque<E> {
         return list.remove(size() - 1);
     }
 
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableList(list).iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
     @Override
     public String toString() {
         return list.toString();
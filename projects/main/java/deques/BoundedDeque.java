@@ -0,0 +1,343 @@
+package deques;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed-capacity implementation of the {@link Deque} interface. All elements are stored in a
+ * single array allocated on construction, so adding and removing never resizes or allocates. What
+ * happens when adding to a full deque is decided by its {@link OverflowPolicy}.
+ * <p>
+ * All methods are guarded by a lock so that a {@link OverflowPolicy#BLOCK} deque can be filled by
+ * one thread and emptied by another.
+ *
+ * @see Deque
+ * @see ArrayDeque
+ */
+public class BoundedDeque<E> implements Deque<E> {
+    /**
+     * The underlying array of elements stored in this deque.
+     */
+    private final Object[] data;
+    /**
+     * The action taken when adding to a full deque.
+     */
+    private final OverflowPolicy policy;
+    /**
+     * The maximum time to wait for space when the policy is {@link OverflowPolicy#BLOCK}.
+     */
+    private final long timeoutNanos;
+    /**
+     * The lock guarding every operation on this deque.
+     */
+    private final ReentrantLock lock;
+    /**
+     * The condition signalled whenever an element is removed.
+     */
+    private final Condition notFull;
+    /**
+     * The index of the first element in this deque.
+     */
+    private int front;
+    /**
+     * The number of elements in this deque.
+     */
+    private int size;
+    /**
+     * The number of elements evicted to make room for new elements.
+     */
+    private long evictions;
+
+    /**
+     * The action taken when adding an element to a full deque.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Remove the element at the opposite end to make room for the new element.
+         */
+        EVICT_OLDEST,
+        /**
+         * Throw an {@link IllegalStateException} without adding the new element.
+         */
+        REJECT,
+        /**
+         * Wait for another thread to remove an element, throwing an {@link IllegalStateException}
+         * if no space becomes available before the timeout.
+         */
+        BLOCK
+    }
+
+    /**
+     * Constructs an empty deque with the given capacity that evicts the oldest element when full.
+     *
+     * @param capacity the maximum number of elements
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BoundedDeque(int capacity) {
+        this(capacity, OverflowPolicy.EVICT_OLDEST);
+    }
+
+    /**
+     * Constructs an empty deque with the given capacity and overflow policy. A
+     * {@link OverflowPolicy#BLOCK} deque constructed this way waits indefinitely for space.
+     *
+     * @param capacity the maximum number of elements
+     * @param policy the action taken when adding to a full deque
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BoundedDeque(int capacity, OverflowPolicy policy) {
+        this(capacity, policy, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Constructs an empty deque with the given capacity and overflow policy.
+     *
+     * @param capacity the maximum number of elements
+     * @param policy the action taken when adding to a full deque
+     * @param timeout the maximum time to wait for space when the policy is {@link OverflowPolicy#BLOCK}
+     * @param unit the unit of the timeout
+     * @throws IllegalArgumentException if capacity is not positive or timeout is negative
+     */
+    public BoundedDeque(int capacity, OverflowPolicy policy, long timeout, TimeUnit unit) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        } else if (timeout < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative: " + timeout);
+        }
+        data = new Object[capacity];
+        this.policy = policy;
+        timeoutNanos = unit.toNanos(timeout);
+        lock = new ReentrantLock();
+        notFull = lock.newCondition();
+        front = 0;
+        size = 0;
+        evictions = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this deque is full and the element could not be added
+     */
+    @Override
+    public void addFirst(E element) {
+        lock.lock();
+        try {
+            if (size == data.length && makeRoom()) {
+                // Evict the element at the back, which is the oldest relative to a new first element.
+                unlinkLast();
+            }
+            front = dec(front);
+            data[front] = element;
+            size += 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this deque is full and the element could not be added
+     */
+    @Override
+    public void addLast(E element) {
+        lock.lock();
+        try {
+            if (size == data.length && makeRoom()) {
+                unlinkFirst();
+            }
+            data[index(size)] = element;
+            size += 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return null;
+            }
+            E result = unlinkFirst();
+            notFull.signal();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E removeLast() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return null;
+            }
+            E result = unlinkLast();
+            notFull.signal();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        lock.lock();
+        try {
+            if ((index >= size) || (index < 0)) {
+                return null;
+            }
+            return elementAt(index(index));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of elements in this deque.
+     *
+     * @return the maximum number of elements in this deque
+     */
+    public int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Returns the total number of elements evicted to make room for new elements.
+     *
+     * @return the total number of elements evicted to make room for new elements
+     */
+    public long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            StringBuilder result = new StringBuilder();
+            result.append('[');
+            for (int i = 0; i < size; i += 1) {
+                if (i > 0) {
+                    result.append(", ");
+                }
+                result.append(data[index(i)]);
+            }
+            result.append(']');
+            return result.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the overflow policy to this full deque. Must be called while holding the lock.
+     *
+     * @return true if the caller must evict an element, or false if another thread made room
+     * @throws IllegalStateException if the policy rejects the new element or the wait timed out
+     */
+    private boolean makeRoom() {
+        switch (policy) {
+            case EVICT_OLDEST:
+                evictions += 1;
+                return true;
+            case BLOCK:
+                long nanos = timeoutNanos;
+                try {
+                    while (size == data.length) {
+                        if (nanos <= 0) {
+                            throw new IllegalStateException("Deque is full");
+                        }
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for space", e);
+                }
+                return false;
+            default:
+                throw new IllegalStateException("Deque is full");
+        }
+    }
+
+    /**
+     * Removes and returns the first element. Must be called while holding the lock on a non-empty
+     * deque.
+     *
+     * @return the first element
+     */
+    private E unlinkFirst() {
+        E result = elementAt(front);
+        data[front] = null;
+        front = index(1);
+        size -= 1;
+        return result;
+    }
+
+    /**
+     * Removes and returns the last element. Must be called while holding the lock on a non-empty
+     * deque.
+     *
+     * @return the last element
+     */
+    private E unlinkLast() {
+        int i = index(size - 1);
+        E result = elementAt(i);
+        data[i] = null;
+        size -= 1;
+        return result;
+    }
+
+    /**
+     * Returns the array index for the given offset from the front, which must be less than or equal
+     * to the capacity.
+     *
+     * @param offset the offset from the front
+     * @return the array index for the given offset from the front
+     */
+    private int index(int offset) {
+        int i = front + offset;
+        return i >= data.length ? i - data.length : i;
+    }
+
+    /**
+     * Returns the array index before the given array index, wrapping around to the end.
+     *
+     * @param i the array index
+     * @return the array index before the given array index
+     */
+    private int dec(int i) {
+        return i == 0 ? data.length - 1 : i - 1;
+    }
+
+    /**
+     * Returns the element at the given array index.
+     *
+     * @param i the array index
+     * @return the element at the given array index
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int i) {
+        return (E) data[i];
+    }
+}
@@ -0,0 +1,270 @@
+package deques;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled linked implementation of the {@link Deque} interface. Elements are stored in
+ * fixed-size array blocks linked together in both directions, so adding or removing at either end
+ * takes constant time without ever copying the whole deque, and {@link #get(int)} only walks one
+ * node per block instead of one node per element.
+ * <p>
+ * Every block between the first and last is full, so the block holding any index can be found by
+ * counting blocks from the closer end. One emptied block is kept as a spare so that a deque whose
+ * size fluctuates across a block boundary does not allocate on every crossing.
+ *
+ * @see Deque
+ * @see LinkedDeque
+ */
+public class ChunkedLinkedDeque<E> implements Deque<E> {
+    /**
+     * The number of elements stored in each block.
+     */
+    private static final int BLOCK_SIZE = 64;
+    /**
+     * The first block in this deque.
+     */
+    private Block head;
+    /**
+     * The last block in this deque, which may be the same as the first block.
+     */
+    private Block tail;
+    /**
+     * The index of the first element in the head block.
+     */
+    private int first;
+    /**
+     * The index for the next element to be inserted by addLast in the tail block.
+     */
+    private int last;
+    /**
+     * The number of elements in this deque.
+     */
+    private int size;
+    /**
+     * An empty block to reuse before allocating a new one, or null.
+     */
+    private Block spare;
+
+    /**
+     * Constructs an empty deque.
+     */
+    public ChunkedLinkedDeque() {
+        head = new Block();
+        tail = head;
+        first = BLOCK_SIZE / 2;
+        last = BLOCK_SIZE / 2;
+        size = 0;
+    }
+
+    @Override
+    public void addFirst(E element) {
+        if (first == 0) {
+            Block block = newBlock();
+            block.next = head;
+            head.prev = block;
+            head = block;
+            first = BLOCK_SIZE;
+        }
+        first -= 1;
+        head.elements[first] = element;
+        size += 1;
+    }
+
+    @Override
+    public void addLast(E element) {
+        if (last == BLOCK_SIZE) {
+            Block block = newBlock();
+            block.prev = tail;
+            tail.next = block;
+            tail = block;
+            last = 0;
+        }
+        tail.elements[last] = element;
+        last += 1;
+        size += 1;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            return null;
+        }
+        E result = elementAt(head, first);
+        head.elements[first] = null;
+        first += 1;
+        size -= 1;
+        if (first == BLOCK_SIZE && head != tail) {
+            Block empty = head;
+            head = head.next;
+            head.prev = null;
+            first = 0;
+            recycle(empty);
+        }
+        if (size == 0) {
+            recenter();
+        }
+        return result;
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            return null;
+        }
+        last -= 1;
+        E result = elementAt(tail, last);
+        tail.elements[last] = null;
+        size -= 1;
+        if (last == 0 && head != tail) {
+            Block empty = tail;
+            tail = tail.prev;
+            tail.next = null;
+            last = BLOCK_SIZE;
+            recycle(empty);
+        }
+        if (size == 0) {
+            recenter();
+        }
+        return result;
+    }
+
+    @Override
+    public E get(int index) {
+        if ((index >= size) || (index < 0)) {
+            return null;
+        }
+        int position = first + index;
+        int blockIndex = position / BLOCK_SIZE;
+        int lastBlockIndex = (first + size - 1) / BLOCK_SIZE;
+        Block curr;
+        if (blockIndex <= lastBlockIndex - blockIndex) {
+            curr = head;
+            for (int i = 0; i < blockIndex; i += 1) {
+                curr = curr.next;
+            }
+        } else {
+            curr = tail;
+            for (int i = lastBlockIndex; i > blockIndex; i -= 1) {
+                curr = curr.prev;
+            }
+        }
+        return elementAt(curr, position % BLOCK_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc} Walks each block in turn so that a full traversal takes linear time.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Block curr = head;
+            private int i = first;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public E next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                if (i == BLOCK_SIZE) {
+                    curr = curr.next;
+                    i = 0;
+                }
+                E result = elementAt(curr, i);
+                i += 1;
+                remaining -= 1;
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append('[');
+        Iterator<E> iter = iterator();
+        while (iter.hasNext()) {
+            result.append(iter.next());
+            if (iter.hasNext()) {
+                result.append(", ");
+            }
+        }
+        result.append(']');
+        return result.toString();
+    }
+
+    /**
+     * Returns the spare block if there is one, or a newly-allocated block otherwise.
+     *
+     * @return an empty, unlinked block
+     */
+    private Block newBlock() {
+        if (spare == null) {
+            return new Block();
+        }
+        Block result = spare;
+        spare = null;
+        return result;
+    }
+
+    /**
+     * Unlinks the given empty block and keeps it as the spare block.
+     *
+     * @param block the empty block that was removed from this deque
+     */
+    private void recycle(Block block) {
+        block.prev = null;
+        block.next = null;
+        spare = block;
+    }
+
+    /**
+     * Moves the front and back indices of an empty deque to the middle of its only block, so that
+     * adding to either end has room before needing another block.
+     */
+    private void recenter() {
+        first = BLOCK_SIZE / 2;
+        last = BLOCK_SIZE / 2;
+    }
+
+    /**
+     * Returns the element at the given index in the given block.
+     *
+     * @param block the block containing the element
+     * @param i the index of the element in the block
+     * @return the element at the given index in the given block
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(Block block, int i) {
+        return (E) block.elements[i];
+    }
+
+    /**
+     * A doubly-linked block containing up to {@link #BLOCK_SIZE} elements.
+     */
+    private static class Block {
+        /**
+         * The element data values in this block.
+         */
+        final Object[] elements = new Object[BLOCK_SIZE];
+        /**
+         * The previous block in the deque.
+         */
+        Block prev;
+        /**
+         * The next block in the deque.
+         */
+        Block next;
+    }
+}
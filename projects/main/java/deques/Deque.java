@@ -1,14 +1,18 @@
 package deques;
 
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A double-ended queue that allows addition, removal, and access to elements at either the front or
  * the back of the collection. The front of the deque contains the first element (aka "head") while
  * the back of the deque contains the last element (aka "tail"). Does not allow null elements, but
- * doesn't check for null elements.
+ * doesn't check for null elements. Iteration goes from front to back.
  *
  * @param <E> the type of elements in this deque
  */
-public interface Deque<E> {
+public interface Deque<E> extends Iterable<E> {
 
     /**
      * Adds the given element to the front of this deque.
@@ -62,4 +66,104 @@ public interface Deque<E> {
      * @return the element at the back of this deque, or null if the deque is empty
      */
     E removeLast();
+
+    /**
+     * Adds all the given elements to the back of this deque in iteration order. Implementations may
+     * override this method to add elements in bulk more efficiently than adding each one individually.
+     *
+     * @param elements the elements to add
+     */
+    default void addAllLast(Collection<? extends E> elements) {
+        for (E element : elements) {
+            addLast(element);
+        }
+    }
+
+    /**
+     * Removes and returns up to the given number of elements from the front of this deque.
+     *
+     * @param numElements the desired number of elements to remove
+     * @return a list of the removed elements in front-to-back order
+     */
+    default List<E> removeFirst(int numElements) {
+        List<E> result = new ArrayList<>(Math.max(0, Math.min(numElements, size())));
+        drainTo(result, numElements);
+        return result;
+    }
+
+    /**
+     * Removes up to the given number of elements from the front of this deque and adds them to the
+     * given collection in front-to-back order. Implementations may override this method to remove
+     * elements in bulk more efficiently than removing each one individually.
+     *
+     * @param collection the collection to add the removed elements to
+     * @param numElements the desired number of elements to remove
+     * @return the number of elements removed
+     */
+    default int drainTo(Collection<? super E> collection, int numElements) {
+        int count = Math.max(0, Math.min(numElements, size()));
+        for (int i = 0; i < count; i += 1) {
+            collection.add(removeFirst());
+        }
+        return count;
+    }
+
+    /**
+     * Returns an iterator over the elements in this deque from front to back. The default
+     * implementation calls {@link #get(int)} for each index, so implementations without
+     * constant-time indexed access should override this method.
+     *
+     * @return an iterator over the elements in this deque from front to back
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public E next() {
+                E result = get(index);
+                if (result == null) {
+                    throw new NoSuchElementException();
+                }
+                index += 1;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements in this deque from front to back. The default
+     * implementation splits off batches from {@link #iterator()}; implementations may override
+     * this method to split evenly without iterating.
+     *
+     * @return a spliterator over the elements in this deque from front to back
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream of the elements in this deque from front to back.
+     *
+     * @return a sequential stream of the elements in this deque
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream of the elements in this deque from front to back.
+     *
+     * @return a possibly parallel stream of the elements in this deque
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
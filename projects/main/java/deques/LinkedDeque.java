@@ -1,5 +1,8 @@
 package deques;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * A doubly-linked implementation of the {@link Deque} interface.
  *
@@ -96,6 +99,31 @@ public class LinkedDeque<E> implements Deque<E> {
         return size;
     }
 
+    /**
+     * {@inheritDoc} Follows the next references so that a full traversal takes linear time.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node<E> curr = front.next;
+
+            @Override
+            public boolean hasNext() {
+                return curr != back;
+            }
+
+            @Override
+            public E next() {
+                if (curr == back) {
+                    throw new NoSuchElementException();
+                }
+                E result = curr.value;
+                curr = curr.next;
+                return result;
+            }
+        };
+    }
+
     @Override
     public String toString() {
         if (size == 0) {
@@ -0,0 +1,86 @@
+package deques;
+
+/**
+ * An array implementation of a double-ended queue of primitive {@code long} values. Stores values
+ * without boxing, so that adding and removing never allocates except when resizing. By default,
+ * removing values never shrinks the underlying array.
+ *
+ * @see ArrayDeque
+ */
+public class LongDeque extends PrimitiveArrayDeque<long[]> {
+    /**
+     * Constructs an empty deque that grows like {@link ArrayDeque} but never shrinks.
+     */
+    public LongDeque() {
+        this(ResizePolicy.NEVER_SHRINK);
+    }
+
+    /**
+     * Constructs an empty deque with the given resize policy.
+     *
+     * @param policy the rules for growing and shrinking the underlying array
+     */
+    public LongDeque(ResizePolicy policy) {
+        super(policy);
+    }
+
+    @Override
+    long[] newArray(int length) {
+        return new long[length];
+    }
+
+    /**
+     * Adds the given value to the front of this deque.
+     *
+     * @param value the value to add
+     */
+    public void addFirst(long value) {
+        int slot = addFirstSlot();
+        data[slot] = value;
+    }
+
+    /**
+     * Adds the given value to the back of this deque.
+     *
+     * @param value the value to add
+     */
+    public void addLast(long value) {
+        int slot = addLastSlot();
+        data[slot] = value;
+    }
+
+    /**
+     * Removes and returns the value at the front of this deque.
+     *
+     * @return the value at the front of this deque
+     * @throws java.util.NoSuchElementException if this deque is empty
+     */
+    public long removeFirst() {
+        long result = data[removeFirstSlot()];
+        shrinkIfNeeded();
+        return result;
+    }
+
+    /**
+     * Removes and returns the value at the back of this deque.
+     *
+     * @return the value at the back of this deque
+     * @throws java.util.NoSuchElementException if this deque is empty
+     */
+    public long removeLast() {
+        long result = data[removeLastSlot()];
+        shrinkIfNeeded();
+        return result;
+    }
+
+    /**
+     * Gets the value at the given index, where 0 is the front, 1 is the next value, and so forth.
+     *
+     * @param index the index to get
+     * @return the value at the given index
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size
+     */
+    public long get(int index) {
+        return data[slot(index)];
+    }
+}
@@ -0,0 +1,221 @@
+package deques;
+
+import java.lang.reflect.Array;
+import java.util.NoSuchElementException;
+
+/**
+ * The ring buffer bookkeeping shared by the primitive deques. Follows the same power-of-two ring
+ * buffer design as {@link ArrayDeque}, but leaves reading and writing values to each subclass, which
+ * indexes its own primitive array with the slots returned here so that values are never boxed.
+ * <p>
+ * Removing values only shrinks the underlying array if the {@link ResizePolicy} allows it. By
+ * default it never does, since these deques are mostly used as search queues that fill and drain
+ * over and over, and shrinking would reallocate the array on every cycle.
+ *
+ * @param <A> the type of the underlying primitive array
+ * @see IntDeque
+ * @see LongDeque
+ * @see DoubleDeque
+ */
+abstract class PrimitiveArrayDeque<A> {
+    /**
+     * The rules for growing and shrinking the underlying array.
+     */
+    private final ResizePolicy policy;
+    /**
+     * The underlying array of values stored in this deque.
+     */
+    A data;
+    /**
+     * The length of the underlying array.
+     */
+    private int capacity;
+    /**
+     * The index for the next value to be inserted by addFirst.
+     */
+    private int front;
+    /**
+     * The index for the next value to be inserted by addLast.
+     */
+    private int back;
+    /**
+     * The number of values in this deque.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty deque with the given resize policy.
+     *
+     * @param policy the rules for growing and shrinking the underlying array
+     */
+    PrimitiveArrayDeque(ResizePolicy policy) {
+        this.policy = policy;
+        capacity = policy.minCapacity();
+        data = newArray(capacity);
+        front = 0;
+        back = 1 & (capacity - 1);
+        size = 0;
+    }
+
+    /**
+     * Returns a new primitive array of the given length.
+     *
+     * @param length the length of the new array
+     * @return a new primitive array of the given length
+     */
+    abstract A newArray(int length);
+
+    /**
+     * Makes room for a value at the front of this deque and returns the slot to write it to.
+     *
+     * @return the index in the underlying array for the new front value
+     */
+    final int addFirstSlot() {
+        if (size == capacity) {
+            resize(policy.grow(capacity));
+        }
+        int slot = front;
+        front = (front - 1) & (capacity - 1);
+        size += 1;
+        return slot;
+    }
+
+    /**
+     * Makes room for a value at the back of this deque and returns the slot to write it to.
+     *
+     * @return the index in the underlying array for the new back value
+     */
+    final int addLastSlot() {
+        if (size == capacity) {
+            resize(policy.grow(capacity));
+        }
+        int slot = back;
+        back = (back + 1) & (capacity - 1);
+        size += 1;
+        return slot;
+    }
+
+    /**
+     * Removes the value at the front of this deque and returns the slot it is still stored in. The
+     * value must be read before calling {@link #shrinkIfNeeded()}.
+     *
+     * @return the index in the underlying array of the removed value
+     * @throws NoSuchElementException if this deque is empty
+     */
+    final int removeFirstSlot() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        front = (front + 1) & (capacity - 1);
+        size -= 1;
+        return front;
+    }
+
+    /**
+     * Removes the value at the back of this deque and returns the slot it is still stored in. The
+     * value must be read before calling {@link #shrinkIfNeeded()}.
+     *
+     * @return the index in the underlying array of the removed value
+     * @throws NoSuchElementException if this deque is empty
+     */
+    final int removeLastSlot() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        back = (back - 1) & (capacity - 1);
+        size -= 1;
+        return back;
+    }
+
+    /**
+     * Shrinks the underlying array after a removal if the resize policy calls for it.
+     */
+    final void shrinkIfNeeded() {
+        if (policy.shouldShrink(size, capacity)) {
+            resize(policy.shrink(size));
+        }
+    }
+
+    /**
+     * Returns the slot of the value at the given index, where 0 is the front.
+     *
+     * @param index the index of the value
+     * @return the index in the underlying array of the value
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size
+     */
+    final int slot(int index) {
+        if ((index >= size) || (index < 0)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (front + 1 + index) & (capacity - 1);
+    }
+
+    /**
+     * Returns true if and only if this deque is empty.
+     *
+     * @return true if and only if this deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this deque.
+     *
+     * @return the number of values in this deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the length of the underlying array.
+     *
+     * @return the length of the underlying array
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all values from this deque without shrinking the underlying array, so that the
+     * deque can be reused without allocating.
+     */
+    public void clear() {
+        front = 0;
+        back = 1 & (capacity - 1);
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append('[');
+        for (int i = 0; i < size; i += 1) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(Array.get(data, slot(i)));
+        }
+        result.append(']');
+        return result.toString();
+    }
+
+    /**
+     * Updates the length of the underlying array to the given capacity, copying over values with
+     * at most two array copies.
+     *
+     * @param newCapacity the length of the new array, which must be a power of two
+     */
+    private void resize(int newCapacity) {
+        A newData = newArray(newCapacity);
+        int first = (front + 1) & (capacity - 1);
+        int firstSegment = Math.min(size, capacity - first);
+        System.arraycopy(data, first, newData, 0, firstSegment);
+        System.arraycopy(data, 0, newData, firstSegment, size - firstSegment);
+        front = newCapacity - 1;
+        back = size & (newCapacity - 1);
+        data = newData;
+        capacity = newCapacity;
+    }
+}
@@ -0,0 +1,139 @@
+package deques;
+
+/**
+ * Growth and shrink rules for power-of-two ring buffers such as {@link ArrayDeque}. A full buffer
+ * grows by the grow factor, and a buffer whose usage drops below the shrink threshold shrinks to
+ * the smallest capacity at which its usage is at most {@code 1 / growFactor}, the same usage as
+ * right after growing.
+ * <p>
+ * The shrink threshold must be at most half the usage right after growing
+ * ({@code 1 / (2 * growFactor)}). After a grow, at least half of the elements must then be removed
+ * before the buffer shrinks, and after a shrink, the buffer must fill up before it grows again, so
+ * every resize is paid for by a number of operations proportional to the capacity.
+ *
+ * @see ArrayDeque
+ */
+public final class ResizePolicy {
+    /**
+     * Doubles when full and shrinks below one-quarter usage, never going below 8 elements.
+     */
+    public static final ResizePolicy DEFAULT = new ResizePolicy(2, 0.25, 8);
+    /**
+     * Doubles when full and never shrinks, except through {@link ArrayDeque#trimToSize()}.
+     */
+    public static final ResizePolicy NEVER_SHRINK = new ResizePolicy(2, 0.0, 8);
+    /**
+     * The factor to multiply the capacity by when full.
+     */
+    private final int growFactor;
+    /**
+     * The usage below which the capacity shrinks.
+     */
+    private final double shrinkThreshold;
+    /**
+     * The smallest capacity, which is also the initial capacity.
+     */
+    private final int minCapacity;
+
+    /**
+     * Constructs a resize policy with the given parameters.
+     *
+     * @param growFactor the factor to multiply the capacity by when full, a power of two at least 2
+     * @param shrinkThreshold the usage below which the capacity shrinks, at most
+     *                        {@code 1 / (2 * growFactor)}, or 0 to never shrink
+     * @param minCapacity the smallest and initial capacity, a positive power of two
+     * @throws IllegalArgumentException if any parameter is out of range
+     */
+    public ResizePolicy(int growFactor, double shrinkThreshold, int minCapacity) {
+        if (growFactor < 2 || Integer.bitCount(growFactor) != 1) {
+            throw new IllegalArgumentException("Grow factor must be a power of two at least 2: " + growFactor);
+        } else if (!(shrinkThreshold >= 0 && shrinkThreshold <= 0.5 / growFactor)) {
+            throw new IllegalArgumentException(
+                    "Shrink threshold must be in [0, 1/(2 * growFactor)]: " + shrinkThreshold);
+        } else if (minCapacity <= 0 || Integer.bitCount(minCapacity) != 1) {
+            throw new IllegalArgumentException("Minimum capacity must be a positive power of two: " + minCapacity);
+        }
+        this.growFactor = growFactor;
+        this.shrinkThreshold = shrinkThreshold;
+        this.minCapacity = minCapacity;
+    }
+
+    /**
+     * Returns the factor to multiply the capacity by when full.
+     *
+     * @return the factor to multiply the capacity by when full
+     */
+    public int growFactor() {
+        return growFactor;
+    }
+
+    /**
+     * Returns the usage below which the capacity shrinks.
+     *
+     * @return the usage below which the capacity shrinks
+     */
+    public double shrinkThreshold() {
+        return shrinkThreshold;
+    }
+
+    /**
+     * Returns the smallest capacity, which is also the initial capacity.
+     *
+     * @return the smallest capacity
+     */
+    public int minCapacity() {
+        return minCapacity;
+    }
+
+    /**
+     * Returns the capacity to grow to from the given full capacity.
+     *
+     * @param capacity the current capacity
+     * @return the grown capacity
+     */
+    int grow(int capacity) {
+        return capacity * growFactor;
+    }
+
+    /**
+     * Returns true if and only if a buffer with the given size and capacity should shrink.
+     *
+     * @param size the number of elements
+     * @param capacity the current capacity
+     * @return true if the capacity should shrink
+     */
+    boolean shouldShrink(int size, int capacity) {
+        return capacity > minCapacity && size < shrinkThreshold * capacity;
+    }
+
+    /**
+     * Returns the capacity to shrink to for the given number of elements, which leaves the buffer
+     * at most {@code 1 / growFactor} full.
+     *
+     * @param size the number of elements
+     * @return the shrunk capacity
+     */
+    int shrink(int size) {
+        return capacityFor(size * growFactor);
+    }
+
+    /**
+     * Returns the smallest power of two no less than the minimum capacity that can hold the given
+     * number of elements.
+     *
+     * @param numElements the number of elements to hold
+     * @return the smallest capacity that can hold the given number of elements
+     */
+    int capacityFor(int numElements) {
+        if (numElements <= minCapacity) {
+            return minCapacity;
+        }
+        return Integer.highestOneBit(numElements - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ResizePolicy{growFactor=" + growFactor + ", shrinkThreshold=" + shrinkThreshold
+                + ", minCapacity=" + minCapacity + '}';
+    }
+}
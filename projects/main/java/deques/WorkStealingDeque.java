@@ -0,0 +1,258 @@
+package deques;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free Chase-Lev work-stealing implementation of the {@link Deque} interface. A single owner
+ * thread adds and removes elements at either end, while any number of thief threads concurrently
+ * take elements from the front with {@link #steal()} or {@link #removeFirst()}.
+ * <p>
+ * {@link #addFirst(Object)}, {@link #addLast(Object)} and {@link #removeLast()} must only be called
+ * by the owner thread. {@link #removeFirst()}, {@link #steal()}, {@link #get(int)} and
+ * {@link #size()} may be called by any thread; {@code get} and {@code size} are only exact when no
+ * other thread is modifying this deque. The front index is paired with a version stamp so that the
+ * owner can add to the front without thieves mistaking a reused index for the one they read. The
+ * underlying array grows as needed but never shrinks.
+ * <p>
+ * Whoever takes an element clears its slot afterwards with a compare-and-set from the element to
+ * null, so the deque does not keep taken elements reachable. Clearing happens after the front has
+ * already moved, so neither addFirst nor addLast, whose back index may wrap around onto such a slot,
+ * ever writes to a slot that still holds a taken element. The owner copies the elements to a fresh
+ * array instead, so that a late clear cannot erase the new element even if it is the same object.
+ *
+ * @see Deque
+ */
+public class WorkStealingDeque<E> implements Deque<E> {
+    /**
+     * The initial capacity for the underlying array of elements. Must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * Sentinel returned by {@link #tryTakeFirst()} when it loses a race with another thread.
+     */
+    private static final Object RETRY = new Object();
+    /**
+     * The underlying ring buffer of elements, indexed by masking the front and back indices.
+     */
+    private volatile AtomicReferenceArray<Object> data;
+    /**
+     * The index of the first element in the low 32 bits, and a version stamp in the high 32 bits
+     * that changes whenever the index changes.
+     */
+    private final AtomicLong front;
+    /**
+     * The index for the next element to be inserted by addLast. Only written by the owner.
+     */
+    private volatile int back;
+
+    /**
+     * Constructs an empty deque.
+     */
+    public WorkStealingDeque() {
+        data = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        front = new AtomicLong();
+        back = 0;
+    }
+
+    /**
+     * {@inheritDoc} Must only be called by the owner thread.
+     */
+    @Override
+    public void addFirst(E element) {
+        while (true) {
+            long word = front.get();
+            int f = (int) word;
+            AtomicReferenceArray<Object> a = data;
+            if (back - f >= a.length() - 1) {
+                a = resize(f, back, 2 * a.length());
+            } else if (a.get((f - 1) & (a.length() - 1)) != null) {
+                // A thief took this slot's element but has not cleared it yet.
+                a = resize(f, back, a.length());
+            }
+            // The slot before the front is unused, so it can be written before being published.
+            int slot = (f - 1) & (a.length() - 1);
+            a.set(slot, element);
+            if (front.compareAndSet(word, moved(word, f - 1))) {
+                return;
+            }
+            a.set(slot, null);
+        }
+    }
+
+    /**
+     * {@inheritDoc} Must only be called by the owner thread.
+     */
+    @Override
+    public void addLast(E element) {
+        int b = back;
+        AtomicReferenceArray<Object> a = data;
+        int f = (int) front.get();
+        if (b - f >= a.length() - 1) {
+            a = resize(f, b, 2 * a.length());
+        } else if (a.get(b & (a.length() - 1)) != null) {
+            // The back wrapped around onto a slot whose element a thief took but has not cleared yet.
+            a = resize(f, b, a.length());
+        }
+        a.set(b & (a.length() - 1), element);
+        back = b + 1;
+    }
+
+    /**
+     * {@inheritDoc} May be called by any thread, and retries until it either removes an element or
+     * finds this deque empty.
+     */
+    @Override
+    public E removeFirst() {
+        while (true) {
+            Object result = tryTakeFirst();
+            if (result != RETRY) {
+                return elementOf(result);
+            }
+        }
+    }
+
+    /**
+     * Attempts to remove and return the element at the front of this deque without retrying. May be
+     * called by any thread.
+     *
+     * @return the element at the front of this deque, or null if the deque is empty or another
+     * thread concurrently took the element
+     */
+    public E steal() {
+        Object result = tryTakeFirst();
+        return result == RETRY ? null : elementOf(result);
+    }
+
+    /**
+     * {@inheritDoc} Must only be called by the owner thread.
+     */
+    @Override
+    public E removeLast() {
+        int b = back - 1;
+        back = b;
+        // Publishing the new back before reading the front ensures thieves and the owner cannot both
+        // take the last element.
+        long word = front.get();
+        int f = (int) word;
+        int size = b - f;
+        if (size < 0) {
+            back = b + 1;
+            return null;
+        }
+        AtomicReferenceArray<Object> a = data;
+        int slot = b & (a.length() - 1);
+        Object result = a.get(slot);
+        if (size > 0) {
+            a.set(slot, null);
+            return elementOf(result);
+        }
+        // Race thieves for the last element by advancing the front past it.
+        if (front.compareAndSet(word, moved(word, f + 1))) {
+            a.compareAndSet(slot, result, null);
+        } else {
+            result = null;
+        }
+        back = b + 1;
+        return elementOf(result);
+    }
+
+    @Override
+    public E get(int index) {
+        int f = (int) front.get();
+        int b = back;
+        AtomicReferenceArray<Object> a = data;
+        if ((index >= b - f) || (index < 0)) {
+            return null;
+        }
+        return elementOf(a.get((f + index) & (a.length() - 1)));
+    }
+
+    @Override
+    public int size() {
+        int f = (int) front.get();
+        return Math.max(0, back - f);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append('[');
+        int size = size();
+        for (int i = 0; i < size; i += 1) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(get(i));
+        }
+        result.append(']');
+        return result.toString();
+    }
+
+    /**
+     * Removes and returns the element at the front of this deque, giving up if another thread
+     * concurrently changes the front.
+     *
+     * @return the element at the front of this deque, null if the deque is empty, or
+     * {@link #RETRY} if another thread concurrently changed the front
+     */
+    private Object tryTakeFirst() {
+        long word = front.get();
+        int f = (int) word;
+        int b = back;
+        if (b - f <= 0) {
+            return null;
+        }
+        AtomicReferenceArray<Object> a = data;
+        int slot = f & (a.length() - 1);
+        Object result = a.get(slot);
+        if (!front.compareAndSet(word, moved(word, f + 1))) {
+            return RETRY;
+        }
+        // The owner may have reused the slot since, in which case it no longer holds the result.
+        a.compareAndSet(slot, result, null);
+        return result;
+    }
+
+    /**
+     * Replaces the underlying array with a new one of the given length, copying over the elements
+     * between the given front and back indices. Only called by the owner. The old array is left
+     * intact so that thieves still reading it see the same elements.
+     *
+     * @param f the front index
+     * @param b the back index
+     * @param capacity the length of the new array, a power of two greater than b - f
+     * @return the new underlying array
+     */
+    private AtomicReferenceArray<Object> resize(int f, int b, int capacity) {
+        AtomicReferenceArray<Object> a = data;
+        AtomicReferenceArray<Object> newData = new AtomicReferenceArray<>(capacity);
+        for (int i = f; i != b; i += 1) {
+            newData.set(i & (capacity - 1), a.get(i & (a.length() - 1)));
+        }
+        data = newData;
+        return newData;
+    }
+
+    /**
+     * Returns the front word for the given new front index with the next version stamp.
+     *
+     * @param word the current front word
+     * @param f the new front index
+     * @return the front word for the given new front index
+     */
+    private static long moved(long word, int f) {
+        return (((word >>> 32) + 1) << 32) | (f & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the given array entry as an element.
+     *
+     * @param entry the array entry
+     * @return the given array entry as an element
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> E elementOf(Object entry) {
+        return (E) entry;
+    }
+}
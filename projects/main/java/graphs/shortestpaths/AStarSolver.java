@@ -2,7 +2,7 @@ package graphs.shortestpaths;
 
 import graphs.AStarGraph;
 import graphs.Edge;
-import minpq.DoubleMapMinPQ;
+import minpq.BTreeMinPQ;
 import minpq.MinPQ;
 
 import java.util.*;
@@ -29,7 +29,7 @@ public class AStarSolver<V> {
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
         this.goal = goal;
-        MinPQ<V> perimeter = new DoubleMapMinPQ<>();
+        MinPQ<V> perimeter = new BTreeMinPQ<>();
         perimeter.add(start, 0.0);
         edgeTo.put(start, null);
         distTo.put(start, 0.0);
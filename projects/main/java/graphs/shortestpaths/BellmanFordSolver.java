@@ -1,77 +1,288 @@
 package graphs.shortestpaths;
 
+import deques.ArrayDeque;
+import deques.Deque;
+import deques.IntDeque;
 import graphs.Edge;
 import graphs.Graph;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
 
 /**
  * Bellman-Ford algorithm implementation of the {@link ShortestPathSolver} interface.
+ * <p>
+ * Instead of relaxing every edge V - 1 times, each round only relaxes the edges out of the vertices whose distances
+ * decreased in the previous round, and the algorithm stops as soon as a round changes nothing. Large rounds relax their
+ * edges in parallel with atomic minimum updates on a primitive distance array. Each vertex's neighbors are requested
+ * from the graph exactly once. A negative cycle reachable from the start is detected as a cycle in the graph of parent
+ * edges and reported by {@link #negativeCycle()} instead of looping forever.
  *
  * @param <V> the type of vertices.
  * @see ShortestPathSolver
  */
 public class BellmanFordSolver<V> implements ShortestPathSolver<V> {
-    private final Map<V, Edge<V>> edgeTo;
-    private final Map<V, Double> distTo;
+    /**
+     * Minimum number of vertices in a round before splitting the work across threads.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final Map<V, Integer> indices;
+    private final List<V> vertices;
+    private final List<List<Edge<V>>> neighbors;
+    private final List<Edge<V>> edgeTo;
+    private final List<V> negativeCycle;
 
     /**
-     * Constructs a new instance by executing Bellman-Ford algorithm on the graph from the start.
+     * Constructs a new instance by executing Bellman-Ford algorithm on the graph from the start on the common
+     * fork-join pool.
      *
      * @param graph the input graph.
      * @param start the start vertex.
      */
     public BellmanFordSolver(Graph<V> graph, V start) {
-        edgeTo = new HashMap<>();
-        distTo = new HashMap<>();
-        edgeTo.put(start, null);
-        distTo.put(start, 0.0);
-        List<V> vertices = vertices(graph, start);
-        for (int i = 1; i < vertices.size(); i += 1) {
-            for (V from : vertices) {
-                for (Edge<V> e : graph.neighbors(from)) {
-                    V to = e.to;
-                    double oldDist = distTo.getOrDefault(to, Double.POSITIVE_INFINITY);
-                    double newDist = distTo.get(from) + e.weight;
-                    if (newDist < oldDist) {
-                        edgeTo.put(to, e);
-                        distTo.put(to, newDist);
-                    }
-                }
+        this(graph, start, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance by executing Bellman-Ford algorithm on the graph from the start, relaxing large rounds
+     * in parallel on the given fork-join pool.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param pool  the pool for relaxing edges in parallel.
+     */
+    public BellmanFordSolver(Graph<V> graph, V start, ForkJoinPool pool) {
+        indices = new HashMap<>();
+        vertices = new ArrayList<>();
+        neighbors = new ArrayList<>();
+        vertices(graph, start);
+        int n = vertices.size();
+        int[][] targets = new int[n][];
+        for (int u = 0; u < n; u += 1) {
+            List<Edge<V>> edges = neighbors.get(u);
+            targets[u] = new int[edges.size()];
+            for (int i = 0; i < edges.size(); i += 1) {
+                targets[u][i] = indices.get(edges.get(i).to);
             }
         }
+
+        AtomicLongArray distTo = new AtomicLongArray(n);
+        List<V> cycle = search(targets, distTo, new AtomicReferenceArray<>(n), pool);
+        if (cycle == null) {
+            // Racing threads can leave parent edges that disagree with the distances, so the parent graph is only
+            // guaranteed to show the negative cycle when relaxing sequentially.
+            cycle = search(targets, distTo, new AtomicReferenceArray<>(n), null);
+        }
+        negativeCycle = cycle;
+        edgeTo = new ArrayList<>(Collections.nCopies(n, null));
+        if (negativeCycle.isEmpty()) {
+            shortestPathsTree(targets, distTo);
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the graph has a negative cycle reachable from the start.
+     */
     @Override
     public List<V> solution(V goal) {
+        if (!negativeCycle.isEmpty()) {
+            throw new IllegalStateException("Negative cycle reachable from the start: " + negativeCycle);
+        }
         List<V> path = new ArrayList<>();
         V curr = goal;
         path.add(curr);
-        while (edgeTo.get(curr) != null) {
-            curr = edgeTo.get(curr).from;
+        Integer index = indices.get(curr);
+        while (index != null && edgeTo.get(index) != null) {
+            curr = edgeTo.get(index).from;
             path.add(curr);
+            index = indices.get(curr);
         }
         Collections.reverse(path);
         return path;
     }
 
-    private List<V> vertices(Graph<V> graph, V start) {
-        List<V> result = new ArrayList<>();
-        Queue<V> queue = new ArrayDeque<>();
-        Set<V> visited = new HashSet<>();
-        queue.add(start);
-        visited.add(start);
+    /**
+     * Returns the vertices of a negative cycle reachable from the start in path order, or an empty list if there is no
+     * such cycle.
+     *
+     * @return the vertices of a negative cycle reachable from the start, or an empty list.
+     */
+    public List<V> negativeCycle() {
+        return negativeCycle;
+    }
+
+    /**
+     * Lowers the distance to the given vertex to the given distance if it is smaller. Safe to call from multiple
+     * threads.
+     *
+     * @param distTo  the raw long bits of the distance to each vertex.
+     * @param v       the index of the vertex.
+     * @param newDist the candidate distance.
+     * @return true if and only if the distance was lowered.
+     */
+    private static boolean relax(AtomicLongArray distTo, int v, double newDist) {
+        while (true) {
+            long bits = distTo.get(v);
+            if (Double.longBitsToDouble(bits) <= newDist) {
+                return false;
+            } else if (distTo.compareAndSet(v, bits, Double.doubleToRawLongBits(newDist))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Chooses the edge to each vertex from a breadth-first search over the edges that are tight for the converged
+     * distances, which yields a tree even when zero-weight cycles make several edges tight.
+     *
+     * @param targets the index of the target of each edge out of each vertex.
+     * @param distTo  the raw long bits of the converged distance to each vertex.
+     */
+    private void shortestPathsTree(int[][] targets, AtomicLongArray distTo) {
+        boolean[] visited = new boolean[vertices.size()];
+        IntDeque queue = new IntDeque();
+        queue.addLast(0);
+        visited[0] = true;
+        while (!queue.isEmpty()) {
+            int u = queue.removeFirst();
+            double fromDist = Double.longBitsToDouble(distTo.get(u));
+            List<Edge<V>> edges = neighbors.get(u);
+            for (int i = 0; i < edges.size(); i += 1) {
+                int v = targets[u][i];
+                Edge<V> e = edges.get(i);
+                if (!visited[v] && fromDist + e.weight == Double.longBitsToDouble(distTo.get(v))) {
+                    visited[v] = true;
+                    edgeTo.set(v, e);
+                    queue.addLast(v);
+                }
+            }
+        }
+    }
+
+    /**
+     * Relaxes the edges out of the vertices whose distances decreased in the previous round until a round changes
+     * nothing or a negative cycle shows up in the graph of parent edges, which is checked after every power-of-two
+     * round so that checking costs O(V log V) in total.
+     *
+     * @param targets the index of the target of each edge out of each vertex.
+     * @param distTo  the raw long bits of the distance to each vertex, which is overwritten.
+     * @param parents the last edge on the best known path to each vertex, which must be empty.
+     * @param pool    the pool for relaxing large rounds in parallel, or null to relax sequentially.
+     * @return the vertices of a negative cycle, an empty list if the distances converged, or null if the rounds
+     * exceeded V in parallel without finding a negative cycle in the parent edges.
+     */
+    private List<V> search(int[][] targets, AtomicLongArray distTo, AtomicReferenceArray<Edge<V>> parents,
+                           ForkJoinPool pool) {
+        int n = vertices.size();
+        distTo.set(0, Double.doubleToRawLongBits(0.0));
+        for (int u = 1; u < n; u += 1) {
+            distTo.set(u, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        }
+        AtomicIntegerArray queuedRound = new AtomicIntegerArray(n);
+        int[] frontier = {0};
+        for (int round = 1; frontier.length > 0; round += 1) {
+            int next = round;
+            IntStream stream = IntStream.of(frontier).flatMap(u -> {
+                double fromDist = Double.longBitsToDouble(distTo.get(u));
+                List<Edge<V>> edges = neighbors.get(u);
+                IntStream.Builder improved = IntStream.builder();
+                for (int i = 0; i < edges.size(); i += 1) {
+                    int v = targets[u][i];
+                    if (relax(distTo, v, fromDist + edges.get(i).weight)) {
+                        parents.set(v, edges.get(i));
+                        if (queuedRound.getAndSet(v, next) != next) {
+                            improved.add(v);
+                        }
+                    }
+                }
+                return improved.build();
+            });
+            if (pool == null || frontier.length < PARALLEL_THRESHOLD) {
+                frontier = stream.toArray();
+            } else {
+                IntStream parallel = stream.parallel();
+                frontier = pool.submit(parallel::toArray).join();
+            }
+            if (frontier.length > 0 && (round & (round - 1)) == 0) {
+                List<V> cycle = parentCycle(parents);
+                if (cycle != null) {
+                    return cycle;
+                }
+            }
+            // Without a negative cycle, every distance is final after V - 1 rounds.
+            if (frontier.length > 0 && round >= n && pool != null) {
+                return null;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the vertices of a cycle with negative total weight in the graph of parent edges in path order, or null
+     * if the parent edges contain no such cycle.
+     *
+     * @param parents the last edge on the best known path to each vertex.
+     * @return the vertices of a negative cycle in the parent edges, or null.
+     */
+    private List<V> parentCycle(AtomicReferenceArray<Edge<V>> parents) {
+        int n = vertices.size();
+        // The start vertex plus one of the walk that first reached each vertex, or 0 if no walk reached it yet.
+        int[] walk = new int[n];
+        for (int s = 0; s < n; s += 1) {
+            int v = s;
+            while (walk[v] == 0 && parents.get(v) != null) {
+                walk[v] = s + 1;
+                v = indices.get(parents.get(v).from);
+            }
+            if (walk[v] == s + 1) {
+                List<V> cycle = new ArrayList<>();
+                double weight = 0.0;
+                int curr = v;
+                do {
+                    cycle.add(vertices.get(curr));
+                    weight += parents.get(curr).weight;
+                    curr = indices.get(parents.get(curr).from);
+                } while (curr != v);
+                if (weight < 0) {
+                    Collections.reverse(cycle);
+                    return cycle;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Assigns an index to each vertex reachable from the start in breadth-first order, calling the graph's neighbors
+     * method exactly once per vertex.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex, which is given index 0.
+     */
+    private void vertices(Graph<V> graph, V start) {
+        Deque<V> queue = new ArrayDeque<>();
+        queue.addLast(start);
+        indices.put(start, 0);
+        vertices.add(start);
         while (!queue.isEmpty()) {
-            V from = queue.remove();
-            result.add(from);
-            for (Edge<V> e : graph.neighbors(from)) {
+            V from = queue.removeFirst();
+            List<Edge<V>> edges = graph.neighbors(from);
+            neighbors.add(edges);
+            for (Edge<V> e : edges) {
                 V to = e.to;
-                if (!visited.contains(to)) {
-                    queue.add(to);
-                    visited.add(to);
+                if (!indices.containsKey(to)) {
+                    indices.put(to, vertices.size());
+                    vertices.add(to);
+                    queue.addLast(to);
                 }
             }
         }
-        return result;
     }
 }
@@ -0,0 +1,116 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The part of a graph reachable from a start vertex, with the vertices numbered from 0 in breadth-first order and the
+ * edges stored in compressed sparse row form: the edges out of vertex u are at the positions from {@code offsets[u]}
+ * up to {@code offsets[u + 1]} in the other arrays. Solvers that relax edges in parallel work on these primitive arrays
+ * instead of hashing vertices and allocating per relaxation.
+ *
+ * @param <V> the type of vertices.
+ */
+class CompactGraph<V> {
+    /**
+     * Index of each reachable vertex.
+     */
+    final Map<V, Integer> indices;
+    /**
+     * Reachable vertices by index, starting with the start vertex.
+     */
+    final List<V> vertices;
+    /**
+     * Position of the first edge out of each vertex, followed by the total number of edges.
+     */
+    final int[] offsets;
+    /**
+     * Index of the target of each edge.
+     */
+    final int[] targets;
+    /**
+     * Weight of each edge.
+     */
+    final double[] weights;
+
+    /**
+     * Constructs the compact form of the part of the graph reachable from the start, calling the graph's neighbors
+     * method exactly once per reachable vertex.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex, which is given index 0.
+     */
+    CompactGraph(Graph<V> graph, V start) {
+        indices = new HashMap<>();
+        vertices = new ArrayList<>();
+        indices.put(start, 0);
+        vertices.add(start);
+        int[] offsets = new int[16];
+        int[] targets = new int[16];
+        double[] weights = new double[16];
+        int numEdges = 0;
+        // The list of vertices doubles as the breadth-first search queue.
+        for (int u = 0; u < vertices.size(); u += 1) {
+            if (u + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+            }
+            for (Edge<V> e : graph.neighbors(vertices.get(u))) {
+                Integer v = indices.get(e.to);
+                if (v == null) {
+                    v = vertices.size();
+                    indices.put(e.to, v);
+                    vertices.add(e.to);
+                }
+                if (numEdges == targets.length) {
+                    targets = Arrays.copyOf(targets, 2 * numEdges);
+                    weights = Arrays.copyOf(weights, 2 * numEdges);
+                }
+                targets[numEdges] = v;
+                weights[numEdges] = e.weight;
+                numEdges += 1;
+            }
+            offsets[u + 1] = numEdges;
+        }
+        int n = vertices.size();
+        this.offsets = Arrays.copyOf(offsets, n + 1);
+        this.targets = Arrays.copyOf(targets, numEdges);
+        this.weights = Arrays.copyOf(weights, numEdges);
+    }
+
+    /**
+     * Returns the number of reachable vertices.
+     *
+     * @return the number of reachable vertices.
+     */
+    int size() {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the path from the start to the given goal by following the given parent indices, or a list containing
+     * only the goal if it has no parent and is not the start.
+     *
+     * @param parent the index of the previous vertex on the path to each vertex, or -1 if there is none.
+     * @param goal   the goal vertex.
+     * @return a list of vertices representing the path from the start to the goal.
+     */
+    List<V> path(int[] parent, V goal) {
+        List<V> path = new ArrayList<>();
+        path.add(goal);
+        Integer index = indices.get(goal);
+        if (index != null) {
+            for (int v = parent[index]; v >= 0; v = parent[v]) {
+                path.add(vertices.get(v));
+            }
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,345 @@
+package graphs.shortestpaths;
+
+import deques.IntDeque;
+import graphs.Edge;
+import graphs.Graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel delta-stepping implementation of the {@link ShortestPathSolver} interface for graphs with non-negative
+ * edge weights. Vertices are grouped into buckets of width delta by their tentative distance, and the buckets are
+ * processed in order. Within a bucket, all light edges (weight at most delta) out of the bucket's vertices are relaxed
+ * in parallel until the bucket stays empty, and then all heavy edges out of the vertices removed from the bucket are
+ * relaxed in parallel. A small delta behaves like Dijkstra's algorithm while a large delta behaves like Bellman-Ford.
+ * <p>
+ * The reachable part of the graph is first copied into a {@link CompactGraph}, so relaxing an edge is an atomic
+ * minimum update on a primitive distance array, and the buckets are a heap of primitive (bucket, vertex) entries that
+ * skips entries left behind when a vertex moves to a lower bucket. Parent edges are chosen in a final pass over the
+ * edges that are tight for the converged distances, so racing threads cannot leave a parent that disagrees with them.
+ * The graph's {@link Graph#neighbors(Object)} method is only called by the constructing thread.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see DijkstraSolver
+ */
+public class DeltaSteppingSolver<V> implements ShortestPathSolver<V> {
+    /**
+     * Number of edges sampled from the start to choose a default delta.
+     */
+    private static final int DELTA_SAMPLE_SIZE = 1024;
+    /**
+     * Minimum number of vertices to relax before splitting the work across threads.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final CompactGraph<V> compact;
+    private final double delta;
+    private final ForkJoinPool pool;
+    /**
+     * Raw long bits of the best known distance to each vertex.
+     */
+    private final AtomicLongArray distTo;
+    /**
+     * Phase in which each vertex was last reported as improved, so each phase reports a vertex at most once.
+     */
+    private final AtomicIntegerArray improvedPhase;
+    /**
+     * Number of relaxation phases run so far.
+     */
+    private int phase;
+    /**
+     * Index of the previous vertex on the shortest path to each vertex, or -1 if there is none.
+     */
+    private final int[] parent;
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the graph from the start on the common fork-join pool,
+     * choosing delta as the mean weight of edges near the start.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     */
+    public DeltaSteppingSolver(Graph<V> graph, V start) {
+        this(graph, start, sampleDelta(graph, start));
+    }
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the graph from the start on the common fork-join pool.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param delta the bucket width, which must be positive.
+     */
+    public DeltaSteppingSolver(Graph<V> graph, V start, double delta) {
+        this(graph, start, delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance by executing delta-stepping on the graph from the start on the given fork-join pool.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param delta the bucket width, which must be positive.
+     * @param pool  the pool for relaxing edges in parallel.
+     * @throws IllegalArgumentException if delta is not positive.
+     */
+    public DeltaSteppingSolver(Graph<V> graph, V start, double delta, ForkJoinPool pool) {
+        if (!(delta > 0)) {
+            throw new IllegalArgumentException("Delta must be positive: " + delta);
+        }
+        this.delta = delta;
+        this.pool = pool;
+        compact = new CompactGraph<>(graph, start);
+        int n = compact.size();
+        distTo = new AtomicLongArray(n);
+        for (int v = 1; v < n; v += 1) {
+            distTo.set(v, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        }
+        improvedPhase = new AtomicIntegerArray(n);
+        phase = 0;
+
+        // The buckets and the bucket of each vertex are only accessed by this thread.
+        BucketHeap buckets = new BucketHeap();
+        // The bucket each vertex is waiting in, or -1 if it is not waiting in any bucket.
+        long[] bucketOf = new long[n];
+        Arrays.fill(bucketOf, -1);
+        // The bucket each vertex was last removed from, so it is only added once to the removed vertices.
+        long[] removedFrom = new long[n];
+        Arrays.fill(removedFrom, -1);
+        place(new int[]{0}, buckets, bucketOf);
+        IntDeque frontier = new IntDeque();
+        IntDeque removed = new IntDeque();
+        while (!buckets.isEmpty()) {
+            long i = buckets.peekBucket();
+            removed.clear();
+            while (!buckets.isEmpty() && buckets.peekBucket() == i) {
+                frontier.clear();
+                while (!buckets.isEmpty() && buckets.peekBucket() == i) {
+                    int v = buckets.removeMin();
+                    // Skip entries left behind by vertices that moved to a lower bucket or were already taken.
+                    if (bucketOf[v] == i) {
+                        bucketOf[v] = -1;
+                        frontier.addLast(v);
+                        if (removedFrom[v] != i) {
+                            removedFrom[v] = i;
+                            removed.addLast(v);
+                        }
+                    }
+                }
+                place(relax(frontier, true), buckets, bucketOf);
+            }
+            place(relax(removed, false), buckets, bucketOf);
+        }
+        parent = shortestPathsTree();
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        return compact.path(parent, goal);
+    }
+
+    /**
+     * Relaxes either the light or the heavy edges out of each of the given vertices, in parallel if there are enough
+     * vertices, and returns the vertices whose distances decreased.
+     *
+     * @param sources the vertices whose outgoing edges to relax.
+     * @param light   true to relax edges with weight at most delta, false to relax the other edges.
+     * @return the vertices whose distances decreased, each at most once.
+     */
+    private int[] relax(IntDeque sources, boolean light) {
+        phase += 1;
+        int current = phase;
+        IntStream stream = IntStream.range(0, sources.size()).map(sources::get).flatMap(u -> {
+            double fromDist = Double.longBitsToDouble(distTo.get(u));
+            IntStream.Builder improved = IntStream.builder();
+            for (int i = compact.offsets[u]; i < compact.offsets[u + 1]; i += 1) {
+                double weight = compact.weights[i];
+                int v = compact.targets[i];
+                if ((weight <= delta) == light && relax(v, fromDist + weight)
+                        && improvedPhase.getAndSet(v, current) != current) {
+                    improved.add(v);
+                }
+            }
+            return improved.build();
+        });
+        if (sources.size() < PARALLEL_THRESHOLD) {
+            return stream.toArray();
+        }
+        IntStream parallel = stream.parallel();
+        return pool.submit(parallel::toArray).join();
+    }
+
+    /**
+     * Lowers the distance to the given vertex to the given distance if it is smaller. Safe to call from multiple
+     * threads.
+     *
+     * @param v       the index of the vertex.
+     * @param newDist the candidate distance.
+     * @return true if and only if the distance was lowered.
+     */
+    private boolean relax(int v, double newDist) {
+        while (true) {
+            long bits = distTo.get(v);
+            if (Double.longBitsToDouble(bits) <= newDist) {
+                return false;
+            } else if (distTo.compareAndSet(v, bits, Double.doubleToRawLongBits(newDist))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves each of the given vertices into the bucket for its current distance, unless it is already waiting there.
+     *
+     * @param vertices the vertices whose distances decreased.
+     * @param buckets  the heap of bucket entries.
+     * @param bucketOf the bucket each vertex is waiting in, or -1.
+     */
+    private void place(int[] vertices, BucketHeap buckets, long[] bucketOf) {
+        for (int v : vertices) {
+            long index = (long) Math.floor(Double.longBitsToDouble(distTo.get(v)) / delta);
+            if (bucketOf[v] != index) {
+                // Any entry for the old bucket stays in the heap and is skipped when reached.
+                bucketOf[v] = index;
+                buckets.add(index, v);
+            }
+        }
+    }
+
+    /**
+     * Returns the parent of each vertex from a breadth-first search over the edges that are tight for the converged
+     * distances, which yields a tree even when zero-weight cycles make several edges tight.
+     *
+     * @return the index of the previous vertex on a shortest path to each vertex, or -1 for the start.
+     */
+    private int[] shortestPathsTree() {
+        int[] result = new int[compact.size()];
+        Arrays.fill(result, -1);
+        boolean[] visited = new boolean[compact.size()];
+        IntDeque queue = new IntDeque();
+        queue.addLast(0);
+        visited[0] = true;
+        while (!queue.isEmpty()) {
+            int u = queue.removeFirst();
+            double fromDist = Double.longBitsToDouble(distTo.get(u));
+            for (int i = compact.offsets[u]; i < compact.offsets[u + 1]; i += 1) {
+                int v = compact.targets[i];
+                if (!visited[v] && fromDist + compact.weights[i] == Double.longBitsToDouble(distTo.get(v))) {
+                    visited[v] = true;
+                    result[v] = u;
+                    queue.addLast(v);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the mean weight of up to {@link #DELTA_SAMPLE_SIZE} edges found by breadth-first search from the start,
+     * or 1 if those edges have no positive weight.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @return the mean weight of edges near the start.
+     */
+    private static <V> double sampleDelta(Graph<V> graph, V start) {
+        Queue<V> queue = new ArrayDeque<>();
+        Set<V> visited = new HashSet<>();
+        queue.add(start);
+        visited.add(start);
+        double total = 0.0;
+        int numEdges = 0;
+        while (!queue.isEmpty() && numEdges < DELTA_SAMPLE_SIZE) {
+            for (Edge<V> e : graph.neighbors(queue.remove())) {
+                total += e.weight;
+                numEdges += 1;
+                if (visited.add(e.to)) {
+                    queue.add(e.to);
+                }
+            }
+        }
+        return total > 0 ? total / numEdges : 1.0;
+    }
+
+    /**
+     * Binary min-heap of vertices keyed by bucket index, stored in parallel primitive arrays from index 0.
+     */
+    private static class BucketHeap {
+        private long[] keys = new long[16];
+        private int[] values = new int[16];
+        private int size = 0;
+
+        /**
+         * Returns true if and only if the heap is empty.
+         *
+         * @return true if and only if the heap is empty.
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Returns the smallest bucket index in the heap, which must not be empty.
+         *
+         * @return the smallest bucket index.
+         */
+        long peekBucket() {
+            return keys[0];
+        }
+
+        /**
+         * Adds the given vertex with the given bucket index.
+         *
+         * @param key   the bucket index.
+         * @param value the vertex.
+         */
+        void add(long key, int value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            int i = size;
+            size += 1;
+            while (i > 0 && keys[(i - 1) / 2] > key) {
+                keys[i] = keys[(i - 1) / 2];
+                values[i] = values[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        /**
+         * Removes and returns a vertex with the smallest bucket index, which must not be empty.
+         *
+         * @return a vertex with the smallest bucket index.
+         */
+        int removeMin() {
+            int result = values[0];
+            size -= 1;
+            long key = keys[size];
+            int value = values[size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child += 1;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[i] = keys[child];
+                values[i] = values[child];
+                i = child;
+            }
+            keys[i] = key;
+            values[i] = value;
+            return result;
+        }
+    }
+}
@@ -2,10 +2,11 @@ package graphs.shortestpaths;
 
 import graphs.Edge;
 import graphs.Graph;
-import minpq.DoubleMapMinPQ;
+import minpq.BTreeMinPQ;
 import minpq.MinPQ;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Dijkstra's algorithm implementation of the {@link ShortestPathSolver} interface.
@@ -24,9 +25,23 @@ public class DijkstraSolver<V> implements ShortestPathSolver<V> {
      * @param start the start vertex.
      */
     public DijkstraSolver(Graph<V> graph, V start) {
+        this(graph, start, BTreeMinPQ::new);
+    }
+
+    /**
+     * Constructs a new instance by executing Dijkstra's algorithm on the graph from the start using the given
+     * {@link MinPQ} implementation for the perimeter. Since Dijkstra's algorithm only ever removes non-decreasing
+     * priority values from the perimeter, graphs with non-negative edge weights can opt in to a monotone priority queue
+     * such as {@link minpq.RadixHeapMinPQ}.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param minPQ the supplier of an empty {@link MinPQ} for the perimeter.
+     */
+    public DijkstraSolver(Graph<V> graph, V start, Supplier<MinPQ<V>> minPQ) {
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
-        MinPQ<V> perimeter = new DoubleMapMinPQ<>();
+        MinPQ<V> perimeter = minPQ.get();
         perimeter.add(start, 0.0);
         edgeTo.put(start, null);
         distTo.put(start, 0.0);
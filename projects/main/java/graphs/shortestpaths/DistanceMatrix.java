@@ -0,0 +1,133 @@
+package graphs.shortestpaths;
+
+import graphs.Graph;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Shortest distances from each of a list of sources to each of a list of targets in a graph with non-negative edge
+ * weights. Each source runs a single one-to-many Dijkstra search that stops once every target is settled, so the
+ * targets share the work of one search instead of each needing its own query. Sources are searched in parallel, each
+ * search using a {@link SolverWorkspace} from the given supplier. Callers that keep a workspace per thread can pass
+ * {@code threadLocal::get} so that the searches reuse those workspaces; otherwise each search gets a new one.
+ * <p>
+ * Only the distances are kept. Paths are reconstructed on demand by {@link #path(int, int)}, which runs one more
+ * query, so a large matrix does not hold a shortest paths tree per source. The graph's
+ * {@link Graph#neighbors(Object)} method is called from multiple threads, so it must be safe for concurrent use.
+ *
+ * @param <V> the type of vertices.
+ * @see SolverWorkspace
+ */
+public class DistanceMatrix<V> {
+    private final Graph<V> graph;
+    private final List<V> sources;
+    private final List<V> targets;
+    private final double[][] distances;
+    private final Supplier<SolverWorkspace<V>> workspaces;
+
+    /**
+     * Constructs a new instance by computing the distances from each source to each target, searching sources in
+     * parallel on the common fork-join pool with a new workspace per search.
+     *
+     * @param graph   the input graph.
+     * @param sources the source vertices, one per row.
+     * @param targets the target vertices, one per column.
+     */
+    public DistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets) {
+        this(graph, sources, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance by computing the distances from each source to each target, searching sources in
+     * parallel on the given fork-join pool with a new workspace per search.
+     *
+     * @param graph   the input graph.
+     * @param sources the source vertices, one per row.
+     * @param targets the target vertices, one per column.
+     * @param pool    the pool for searching sources in parallel.
+     */
+    public DistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets, ForkJoinPool pool) {
+        this(graph, sources, targets, pool, SolverWorkspace::new);
+    }
+
+    /**
+     * Constructs a new instance by computing the distances from each source to each target, searching sources in
+     * parallel on the given fork-join pool. Each search, including those run later by {@link #path(int, int)}, uses
+     * the workspace returned by the supplier on the thread running it and finishes with it before the supplier is
+     * called again on that thread.
+     *
+     * @param graph      the input graph.
+     * @param sources    the source vertices, one per row.
+     * @param targets    the target vertices, one per column.
+     * @param pool       the pool for searching sources in parallel.
+     * @param workspaces the supplier of a workspace for each search, such as a per-thread workspace.
+     */
+    public DistanceMatrix(Graph<V> graph, List<V> sources, List<V> targets, ForkJoinPool pool,
+                          Supplier<SolverWorkspace<V>> workspaces) {
+        this.graph = graph;
+        this.sources = List.copyOf(sources);
+        this.targets = List.copyOf(targets);
+        this.workspaces = workspaces;
+        distances = new double[this.sources.size()][];
+        pool.submit(() -> IntStream.range(0, distances.length).parallel().forEach(i ->
+                distances[i] = workspaces.get().distances(graph, this.sources.get(i), this.targets)
+        )).join();
+    }
+
+    /**
+     * Returns the shortest distance from each source to each target, indexed first by source and then by target, with
+     * positive infinity for unreachable targets. The returned array is not copied, so it must not be modified.
+     *
+     * @return the shortest distance from each source to each target.
+     */
+    public double[][] distances() {
+        return distances;
+    }
+
+    /**
+     * Returns the shortest distance from the given source to the given target, or positive infinity if the target is
+     * unreachable from the source.
+     *
+     * @param source the index of the source.
+     * @param target the index of the target.
+     * @return the shortest distance from the source to the target.
+     * @throws IndexOutOfBoundsException if either index is out of range.
+     */
+    public double distance(int source, int target) {
+        return distances[source][target];
+    }
+
+    /**
+     * Returns a shortest path from the given source to the given target by running one more query. If the target is
+     * unreachable from the source, returns a list containing only the target.
+     *
+     * @param source the index of the source.
+     * @param target the index of the target.
+     * @return a list of vertices representing a shortest path from the source to the target.
+     * @throws IndexOutOfBoundsException if either index is out of range.
+     */
+    public List<V> path(int source, int target) {
+        return workspaces.get().dijkstra(graph, sources.get(source), targets.get(target));
+    }
+
+    /**
+     * Returns the source vertices in row order.
+     *
+     * @return the source vertices in row order.
+     */
+    public List<V> sources() {
+        return sources;
+    }
+
+    /**
+     * Returns the target vertices in column order.
+     *
+     * @return the target vertices in column order.
+     */
+    public List<V> targets() {
+        return targets;
+    }
+}
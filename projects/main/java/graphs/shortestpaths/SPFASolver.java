@@ -1,5 +1,6 @@
 package graphs.shortestpaths;
 
+import deques.IntDeque;
 import graphs.Edge;
 import graphs.Graph;
 
@@ -7,110 +8,248 @@ import java.util.*;
 
 /**
  * Shortest Path Faster Algorithm implementation of the {@link ShortestPathSolver} interface.
+ * <p>
+ * Vertices whose distances decreased wait in a queue of primitive vertex indices, and a vertex is never queued twice.
+ * The order in which queued vertices are processed is chosen by a {@link QueueDiscipline}: the small label first and
+ * large label last disciplines process vertices with smaller distances sooner, which reduces the number of times each
+ * vertex has its distance lowered on typical road-like graphs.
+ * <p>
+ * A negative cycle reachable from the start would make the distances decrease forever. Every time the number of
+ * relaxations since the last check reaches the number of vertices seen so far, the graph of parent edges is searched
+ * for a cycle, which costs amortized constant time per relaxation. The search stops as soon as a cycle appears, and
+ * the cycle is reported by {@link #negativeCycle()}.
  *
  * @param <V> the type of vertices.
  * @see ShortestPathSolver
+ * @see BellmanFordSolver
  */
 public class SPFASolver<V> implements ShortestPathSolver<V> {
-    private final Map<V, Edge<V>> edgeTo;
-    private final Map<V, Double> distTo;
+    /**
+     * The initial capacity for the per-vertex arrays.
+     */
+    private static final int INITIAL_CAPACITY = 16;
 
+    private final Map<V, Integer> indices;
+    private final List<V> vertices;
+    private final List<V> negativeCycle;
+    /**
+     * Best known distance to each vertex.
+     */
+    private double[] distTo;
+    /**
+     * Index of the previous vertex on the best known path to each vertex, or -1 if there is none.
+     */
+    private int[] parent;
+    /**
+     * Whether each vertex is waiting in the queue.
+     */
+    private boolean[] queued;
     /**
-     * Constructs a new instance by executing SPFA on the graph from the start.
+     * Sum of the distances of the vertices waiting in the queue, used by {@link QueueDiscipline#LLL}.
+     */
+    private double queuedDistSum;
+
+    /**
+     * Constructs a new instance by executing SPFA on the graph from the start with a first-in, first-out queue.
      *
      * @param graph the input graph.
      * @param start the start vertex.
      */
     public SPFASolver(Graph<V> graph, V start) {
-        edgeTo = new HashMap<>();
-        distTo = new HashMap<>();
-        Queue<V> perimeter = new OptimizedArrayQueueSet<>();
-        perimeter.add(start);
-        edgeTo.put(start, null);
-        distTo.put(start, 0.0);
-        while (!perimeter.isEmpty()) {
-            V from = perimeter.remove();
-            for (Edge<V> e : graph.neighbors(from)) {
-                V to = e.to;
-                double oldDist = distTo.getOrDefault(to, Double.POSITIVE_INFINITY);
-                double newDist = distTo.get(from) + e.weight;
-                if (newDist < oldDist) {
-                    edgeTo.put(to, e);
-                    distTo.put(to, newDist);
-                    perimeter.add(to);
+        this(graph, start, QueueDiscipline.FIFO);
+    }
+
+    /**
+     * Constructs a new instance by executing SPFA on the graph from the start with the given queue discipline.
+     *
+     * @param graph      the input graph.
+     * @param start      the start vertex.
+     * @param discipline the order in which to process queued vertices.
+     */
+    public SPFASolver(Graph<V> graph, V start, QueueDiscipline discipline) {
+        indices = new HashMap<>();
+        vertices = new ArrayList<>();
+        distTo = new double[INITIAL_CAPACITY];
+        parent = new int[INITIAL_CAPACITY];
+        queued = new boolean[INITIAL_CAPACITY];
+        boolean smallLabelFirst = discipline == QueueDiscipline.SLF || discipline == QueueDiscipline.SLF_LLL;
+        boolean largeLabelLast = discipline == QueueDiscipline.LLL || discipline == QueueDiscipline.SLF_LLL;
+
+        IntDeque queue = new IntDeque();
+        int s = indexFor(start);
+        distTo[s] = 0.0;
+        offer(queue, s, false);
+        int relaxations = 0;
+        List<V> cycle = List.of();
+        while (!queue.isEmpty() && cycle.isEmpty()) {
+            int from = largeLabelLast ? pollLargeLabelLast(queue) : queue.removeFirst();
+            queued[from] = false;
+            queuedDistSum -= distTo[from];
+            for (Edge<V> e : graph.neighbors(vertices.get(from))) {
+                int to = indexFor(e.to);
+                double newDist = distTo[from] + e.weight;
+                if (newDist < distTo[to]) {
+                    if (queued[to]) {
+                        queuedDistSum += newDist - distTo[to];
+                    }
+                    distTo[to] = newDist;
+                    parent[to] = from;
+                    if (!queued[to]) {
+                        offer(queue, to, smallLabelFirst);
+                    }
+                    relaxations += 1;
                 }
             }
+            if (relaxations >= vertices.size()) {
+                cycle = parentCycle();
+                relaxations = 0;
+            }
         }
+        negativeCycle = cycle;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the graph has a negative cycle reachable from the start.
+     */
     @Override
     public List<V> solution(V goal) {
+        if (!negativeCycle.isEmpty()) {
+            throw new IllegalStateException("Negative cycle reachable from the start: " + negativeCycle);
+        }
         List<V> path = new ArrayList<>();
         V curr = goal;
         path.add(curr);
-        while (edgeTo.get(curr) != null) {
-            curr = edgeTo.get(curr).from;
-            path.add(curr);
+        Integer index = indices.get(curr);
+        if (index != null) {
+            for (int v = parent[index]; v >= 0; v = parent[v]) {
+                path.add(vertices.get(v));
+            }
         }
         Collections.reverse(path);
         return path;
     }
 
     /**
-     * Optimized array queue implementation of the {@link Queue} interface.
+     * Returns the vertices of a negative cycle reachable from the start in path order, or an empty list if there is no
+     * such cycle.
      *
-     * @param <E> the type of elements in this queue.
+     * @return the vertices of a negative cycle reachable from the start, or an empty list.
      */
-    private static class OptimizedArrayQueueSet<E> extends AbstractQueue<E> {
-        /**
-         * {@link Queue} of elements.
-         */
-        private final Queue<E> queue;
-        /**
-         * {@link Set} of elements in this queue.
-         */
-        private final Set<E> set;
-
-        public OptimizedArrayQueueSet() {
-            queue = new ArrayDeque<>();
-            set = new HashSet<>();
-        }
+    public List<V> negativeCycle() {
+        return negativeCycle;
+    }
 
-        @Override
-        public boolean contains(Object o) {
-            return set.contains(o);
+    /**
+     * Adds the given vertex to the queue. With small label first, the vertex goes to the front of the queue if its
+     * distance is smaller than the distance of the vertex currently at the front.
+     *
+     * @param queue           the queue of vertex indices.
+     * @param v               the index of the vertex to add.
+     * @param smallLabelFirst true to apply the small label first rule, false to always add to the back.
+     */
+    private void offer(IntDeque queue, int v, boolean smallLabelFirst) {
+        if (smallLabelFirst && !queue.isEmpty() && distTo[v] < distTo[queue.get(0)]) {
+            queue.addFirst(v);
+        } else {
+            queue.addLast(v);
         }
+        queued[v] = true;
+        queuedDistSum += distTo[v];
+    }
 
-        @Override
-        public Iterator<E> iterator() {
-            return queue.iterator();
+    /**
+     * Moves vertices from the front to the back of the queue while their distance is larger than the average distance
+     * in the queue, and then removes and returns the vertex at the front.
+     *
+     * @param queue the non-empty queue of vertex indices.
+     * @return the index of the removed vertex.
+     */
+    private int pollLargeLabelLast(IntDeque queue) {
+        double average = queuedDistSum / queue.size();
+        // Rounding in the running sum could leave every vertex above the average, so stop after one full rotation.
+        for (int i = 1; i < queue.size() && distTo[queue.get(0)] > average; i += 1) {
+            queue.addLast(queue.removeFirst());
         }
+        return queue.removeFirst();
+    }
 
-        @Override
-        public boolean offer(E e) {
-            if (set.contains(e)) {
-                return false;
+    /**
+     * Returns the vertices of a cycle in the graph of parent edges in path order, or an empty list if the parent edges
+     * contain no cycle. Every such cycle has negative total weight because each parent edge strictly lowered a
+     * distance.
+     *
+     * @return the vertices of a negative cycle in the parent edges, or an empty list.
+     */
+    private List<V> parentCycle() {
+        int n = vertices.size();
+        // The start vertex plus one of the walk that first reached each vertex, or 0 if no walk reached it yet.
+        int[] walk = new int[n];
+        for (int s = 0; s < n; s += 1) {
+            int v = s;
+            while (walk[v] == 0 && parent[v] >= 0) {
+                walk[v] = s + 1;
+                v = parent[v];
+            }
+            if (walk[v] == s + 1) {
+                List<V> cycle = new ArrayList<>();
+                int curr = v;
+                do {
+                    cycle.add(vertices.get(curr));
+                    curr = parent[curr];
+                } while (curr != v);
+                Collections.reverse(cycle);
+                return cycle;
             }
-            boolean result = queue.offer(e);
-            set.add(e);
-            return result;
         }
+        return List.of();
+    }
 
-        @Override
-        public E peek() {
-            return queue.peek();
+    /**
+     * Returns the index of the given vertex, first assigning it a new index with an infinite distance if it has not
+     * been reached before.
+     *
+     * @param vertex the vertex.
+     * @return the index of the given vertex.
+     */
+    private int indexFor(V vertex) {
+        Integer index = indices.get(vertex);
+        if (index != null) {
+            return index;
         }
-
-        @Override
-        public E poll() {
-            E element = queue.poll();
-            set.remove(element);
-            return element;
+        int v = vertices.size();
+        if (v == distTo.length) {
+            distTo = Arrays.copyOf(distTo, 2 * v);
+            parent = Arrays.copyOf(parent, 2 * v);
+            queued = Arrays.copyOf(queued, 2 * v);
         }
+        indices.put(vertex, v);
+        vertices.add(vertex);
+        distTo[v] = Double.POSITIVE_INFINITY;
+        parent[v] = -1;
+        return v;
+    }
 
-        @Override
-        public int size() {
-            return queue.size();
-        }
+    /**
+     * The order in which queued vertices are processed.
+     */
+    public enum QueueDiscipline {
+        /**
+         * Add vertices to the back and process them from the front.
+         */
+        FIFO,
+        /**
+         * Small label first: add a vertex to the front instead if its distance is smaller than the front's.
+         */
+        SLF,
+        /**
+         * Large label last: move vertices whose distance is above the queue's average to the back before processing.
+         */
+        LLL,
+        /**
+         * Apply both the small label first and the large label last rules.
+         */
+        SLF_LLL
     }
 }
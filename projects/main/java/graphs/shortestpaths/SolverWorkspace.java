@@ -0,0 +1,470 @@
+package graphs.shortestpaths;
+
+import graphs.AStarGraph;
+import graphs.Edge;
+import graphs.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reusable storage for running many shortest path queries one after another. Instead of allocating
+ * new maps and a new perimeter for every query like {@link DijkstraSolver} and {@link AStarSolver},
+ * a workspace keeps its distance and parent arrays, its vertex index and its perimeter heap between
+ * queries and only clears the entries the previous query touched. Once the arrays have grown to fit
+ * the largest query, a query allocates nothing except the returned path.
+ * <p>
+ * A workspace is not thread-safe, so servers should keep one per thread, for example with
+ * {@code ThreadLocal.withInitial(SolverWorkspace::new)}. Results from a query are only available
+ * until the next query on the same workspace.
+ *
+ * @param <V> the type of vertices.
+ * @see DijkstraSolver
+ * @see AStarSolver
+ */
+public class SolverWorkspace<V> {
+    /**
+     * The initial capacity for the per-vertex arrays. Must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Vertex stored in each slot, assigned in the order vertices are first reached.
+     */
+    private Object[] vertices;
+    /**
+     * Best known distance from the start to the vertex in each slot.
+     */
+    private double[] distTo;
+    /**
+     * Slot of the previous vertex on the best known path to each slot, or -1 for the start.
+     */
+    private int[] parent;
+    /**
+     * Perimeter priority of each slot.
+     */
+    private double[] priority;
+    /**
+     * Position of each slot in the perimeter heap, or -1 if the slot is not in the perimeter.
+     */
+    private int[] heapIndex;
+    /**
+     * Position of each slot in the hash table, so the table can be cleared in O(touched).
+     */
+    private int[] tablePosition;
+    /**
+     * Number of vertices reached by the current query.
+     */
+    private int count;
+    /**
+     * Open-addressing hash table mapping each vertex to its slot plus one, or 0 for an empty entry.
+     */
+    private int[] table;
+    /**
+     * Number of bits to shift a spread hash to index the table.
+     */
+    private int tableShift;
+    /**
+     * Binary min-heap of slots ordered by priority, stored from index 0.
+     */
+    private int[] heap;
+    /**
+     * Number of slots in the perimeter heap.
+     */
+    private int heapSize;
+    /**
+     * Number of queries run so far, used to detect stale solvers.
+     */
+    private long queries;
+
+    /**
+     * Constructs an empty workspace.
+     */
+    public SolverWorkspace() {
+        vertices = new Object[INITIAL_CAPACITY];
+        distTo = new double[INITIAL_CAPACITY];
+        parent = new int[INITIAL_CAPACITY];
+        priority = new double[INITIAL_CAPACITY];
+        heapIndex = new int[INITIAL_CAPACITY];
+        tablePosition = new int[INITIAL_CAPACITY];
+        heap = new int[INITIAL_CAPACITY];
+        table = new int[2 * INITIAL_CAPACITY];
+        tableShift = 32 - Integer.numberOfTrailingZeros(table.length);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm on the graph from the start until every reachable vertex is settled,
+     * and returns a solver for the resulting shortest paths tree. The returned solver is only valid
+     * until the next query on this workspace. Can be passed wherever a
+     * {@link ShortestPathSolver.Constructor} is expected, as in {@code workspace::dijkstra}.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @return a solver for the shortest paths tree from the start.
+     */
+    public ShortestPathSolver<V> dijkstra(Graph<V> graph, V start) {
+        search(graph, start, null, null);
+        long query = queries;
+        return goal -> {
+            if (query != queries) {
+                throw new IllegalStateException("Workspace was reused by a later query");
+            }
+            return solution(goal);
+        };
+    }
+
+    /**
+     * Runs Dijkstra's algorithm on the graph from the start, stopping as soon as the goal is
+     * settled, and returns the shortest path to the goal.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param goal  the goal vertex.
+     * @return a list of vertices representing the shortest path.
+     */
+    public List<V> dijkstra(Graph<V> graph, V start, V goal) {
+        search(graph, start, goal, null);
+        return solution(goal);
+    }
+
+    /**
+     * Runs A* search on the graph from the start, stopping as soon as the goal is settled, and
+     * returns the shortest path to the goal. The path is a shortest path as long as the graph's
+     * estimated distance never overestimates the true distance.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param goal  the goal vertex.
+     * @return a list of vertices representing the shortest path.
+     */
+    public List<V> aStar(AStarGraph<V> graph, V start, V goal) {
+        search(graph, start, goal, graph);
+        return solution(goal);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm on the graph from the start, stopping as soon as every goal is
+     * settled, and returns the shortest distance to each goal in the same order as the goals, or
+     * positive infinity for unreachable goals. One search serves all of the goals, so this is much
+     * cheaper than a separate query per goal. The paths to the goals are available from
+     * {@link #distTo(Object)} until the next query. Given no goals, returns an empty array without
+     * searching.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param goals the goal vertices.
+     * @return the shortest distance from the start to each goal.
+     */
+    public double[] distances(Graph<V> graph, V start, List<V> goals) {
+        reset();
+        queries += 1;
+        if (goals.isEmpty()) {
+            // Without goals, the search below would settle the whole graph.
+            return new double[0];
+        }
+        for (V goal : goals) {
+            slotFor(goal);
+        }
+        settle(graph, start, null, null, Double.POSITIVE_INFINITY);
+        double[] result = new double[goals.size()];
+        for (int i = 0; i < result.length; i += 1) {
+            result[i] = distTo[slotOf(goals.get(i))];
+        }
+        return result;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm on the graph from the start, stopping as soon as the next vertex to
+     * settle is farther than the given distance, and returns every vertex within that distance of
+     * the start. Only the vertices near the start are explored, so the query takes time depending
+     * on the size of the neighborhood rather than the size of the graph. The distances and paths to
+     * the returned vertices are available from {@link #distTo(Object)} until the next query.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param maxDistance the maximum distance from the start.
+     * @return the vertices within the given distance of the start, in the order first reached.
+     */
+    public List<V> within(Graph<V> graph, V start, double maxDistance) {
+        reset();
+        queries += 1;
+        settle(graph, start, null, null, maxDistance);
+        List<V> result = new ArrayList<>();
+        for (int slot = 0; slot < count; slot += 1) {
+            if (distTo[slot] <= maxDistance) {
+                result.add(vertexAt(slot));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distance of the best path found by the last query from its start to the given
+     * vertex, or positive infinity if the last query did not reach the vertex. The distance is the
+     * shortest distance for the goal and for every vertex settled before it.
+     *
+     * @param vertex the vertex.
+     * @return the distance of the best path found by the last query to the vertex.
+     */
+    public double distTo(V vertex) {
+        int slot = slotOf(vertex);
+        return slot < 0 ? Double.POSITIVE_INFINITY : distTo[slot];
+    }
+
+    /**
+     * Returns the path found by the last query from its start to the given goal. If the goal was not
+     * reached, returns a list containing only the goal.
+     *
+     * @param goal the goal vertex.
+     * @return a list of vertices representing the path.
+     */
+    private List<V> solution(V goal) {
+        List<V> path = new ArrayList<>();
+        path.add(goal);
+        int slot = slotOf(goal);
+        if (slot >= 0) {
+            for (int curr = parent[slot]; curr >= 0; curr = parent[curr]) {
+                path.add(vertexAt(curr));
+            }
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Clears the previous query and searches the graph from the start, stopping once the goal is
+     * settled.
+     *
+     * @param graph     the input graph.
+     * @param start     the start vertex.
+     * @param goal      the goal vertex, or null to settle every reachable vertex.
+     * @param heuristic the graph estimating distances to the goal, or null for Dijkstra's algorithm.
+     */
+    private void search(Graph<V> graph, V start, V goal, AStarGraph<V> heuristic) {
+        reset();
+        queries += 1;
+        if (goal != null) {
+            slotFor(goal);
+        }
+        settle(graph, start, goal, heuristic, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Searches the graph from the start, stopping once every vertex given a slot before the search
+     * began has been settled, or settling every reachable vertex if there are no such vertices. Also
+     * stops once the next vertex to settle is farther than the given distance.
+     * Vertices are reopened whenever a shorter path to them is found, so the search is correct for
+     * any non-negative edge weights and any admissible heuristic.
+     *
+     * @param graph       the input graph.
+     * @param start       the start vertex.
+     * @param goal        the goal vertex for the heuristic, or null for Dijkstra's algorithm.
+     * @param heuristic   the graph estimating distances to the goal, or null for Dijkstra's algorithm.
+     * @param maxDistance the maximum distance from the start to settle.
+     */
+    private void settle(Graph<V> graph, V start, V goal, AStarGraph<V> heuristic, double maxDistance) {
+        // The goals occupy the slots below this, since they were reached before the search began.
+        int numGoals = count;
+        int unsettledGoals = numGoals;
+        int startSlot = slotFor(start);
+        distTo[startSlot] = 0.0;
+        push(startSlot, 0.0);
+        while (heapSize > 0) {
+            int from = pop();
+            if (distTo[from] > maxDistance) {
+                return;
+            }
+            if (from < numGoals) {
+                unsettledGoals -= 1;
+                if (unsettledGoals == 0) {
+                    return;
+                }
+            }
+            V fromVertex = vertexAt(from);
+            for (Edge<V> e : graph.neighbors(fromVertex)) {
+                int to = slotFor(e.to);
+                double newDist = distTo[from] + e.weight;
+                if (newDist < distTo[to]) {
+                    distTo[to] = newDist;
+                    parent[to] = from;
+                    double newPriority = heuristic == null ? newDist : newDist + heuristic.estimatedDistance(e.to, goal);
+                    if (heapIndex[to] < 0) {
+                        push(to, newPriority);
+                    } else {
+                        priority[to] = newPriority;
+                        swim(heapIndex[to]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears every vertex reached by the previous query in time proportional to their number.
+     */
+    private void reset() {
+        for (int slot = 0; slot < count; slot += 1) {
+            table[tablePosition[slot]] = 0;
+            vertices[slot] = null;
+        }
+        count = 0;
+        heapSize = 0;
+    }
+
+    /**
+     * Returns the slot of the given vertex, or -1 if the current query has not reached it.
+     *
+     * @param vertex the vertex.
+     * @return the slot of the given vertex, or -1.
+     */
+    private int slotOf(Object vertex) {
+        for (int i = (vertex.hashCode() * 0x9E3779B9) >>> tableShift; ; i = (i + 1) & (table.length - 1)) {
+            int entry = table[i];
+            if (entry == 0) {
+                return -1;
+            } else if (vertices[entry - 1].equals(vertex)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the given vertex, first assigning it a new slot with an infinite distance
+     * if the current query has not reached it.
+     *
+     * @param vertex the vertex.
+     * @return the slot of the given vertex.
+     */
+    private int slotFor(V vertex) {
+        int i = (vertex.hashCode() * 0x9E3779B9) >>> tableShift;
+        for (; table[i] != 0; i = (i + 1) & (table.length - 1)) {
+            if (vertices[table[i] - 1].equals(vertex)) {
+                return table[i] - 1;
+            }
+        }
+        if (count == vertices.length) {
+            grow();
+            return slotFor(vertex);
+        }
+        int slot = count;
+        count += 1;
+        vertices[slot] = vertex;
+        distTo[slot] = Double.POSITIVE_INFINITY;
+        parent[slot] = -1;
+        heapIndex[slot] = -1;
+        table[i] = slot + 1;
+        tablePosition[slot] = i;
+        return slot;
+    }
+
+    /**
+     * Doubles the per-vertex arrays and the hash table, rehashing every reached vertex.
+     */
+    private void grow() {
+        int capacity = 2 * vertices.length;
+        vertices = Arrays.copyOf(vertices, capacity);
+        distTo = Arrays.copyOf(distTo, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        heapIndex = Arrays.copyOf(heapIndex, capacity);
+        tablePosition = Arrays.copyOf(tablePosition, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        table = new int[2 * capacity];
+        tableShift = 32 - Integer.numberOfTrailingZeros(table.length);
+        for (int slot = 0; slot < count; slot += 1) {
+            int i = (vertices[slot].hashCode() * 0x9E3779B9) >>> tableShift;
+            while (table[i] != 0) {
+                i = (i + 1) & (table.length - 1);
+            }
+            table[i] = slot + 1;
+            tablePosition[slot] = i;
+        }
+    }
+
+    /**
+     * Adds the given slot to the perimeter heap with the given priority.
+     *
+     * @param slot        the slot.
+     * @param newPriority the priority.
+     */
+    private void push(int slot, double newPriority) {
+        priority[slot] = newPriority;
+        heap[heapSize] = slot;
+        heapIndex[slot] = heapSize;
+        heapSize += 1;
+        swim(heapSize - 1);
+    }
+
+    /**
+     * Removes and returns the slot with the minimum priority from the perimeter heap.
+     *
+     * @return the slot with the minimum priority.
+     */
+    private int pop() {
+        int result = heap[0];
+        heapIndex[result] = -1;
+        heapSize -= 1;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            sink(0);
+        }
+        return result;
+    }
+
+    /**
+     * Moves the slot at the given heap position up until its parent has no greater priority.
+     *
+     * @param i the heap position.
+     */
+    private void swim(int i) {
+        int slot = heap[i];
+        while (i > 0) {
+            int up = (i - 1) / 2;
+            if (priority[heap[up]] <= priority[slot]) {
+                break;
+            }
+            heap[i] = heap[up];
+            heapIndex[heap[i]] = i;
+            i = up;
+        }
+        heap[i] = slot;
+        heapIndex[slot] = i;
+    }
+
+    /**
+     * Moves the slot at the given heap position down until its children have no smaller priority.
+     *
+     * @param i the heap position.
+     */
+    private void sink(int i) {
+        int slot = heap[i];
+        while (2 * i + 1 < heapSize) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && priority[heap[child + 1]] < priority[heap[child]]) {
+                child += 1;
+            }
+            if (priority[slot] <= priority[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            heapIndex[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = slot;
+        heapIndex[slot] = i;
+    }
+
+    /**
+     * Returns the vertex stored in the given slot.
+     *
+     * @param slot the slot.
+     * @return the vertex stored in the given slot.
+     */
+    @SuppressWarnings("unchecked")
+    private V vertexAt(int slot) {
+        return (V) vertices[slot];
+    }
+}
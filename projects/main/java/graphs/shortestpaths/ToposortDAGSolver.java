@@ -1,80 +1,150 @@
 package graphs.shortestpaths;
 
-import graphs.Edge;
 import graphs.Graph;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
 
 /**
  * Topological sorting implementation of the {@link ShortestPathSolver} interface for <b>directed acyclic graphs</b>.
+ * <p>
+ * The vertices reachable from the start are first copied into compact arrays of vertex indices with a single call to
+ * the graph's neighbors method per vertex. Kahn's algorithm then processes the vertices level by level, where each
+ * level contains the vertices whose predecessors have all been processed, so every vertex's distance is final before
+ * its outgoing edges are relaxed. Nothing is recursive, so long graphs such as the pixel graphs of large images cannot
+ * overflow the stack. Given a fork-join pool, large levels are relaxed in parallel.
  *
  * @param <V> the type of vertices.
  * @see ShortestPathSolver
  */
 public class ToposortDAGSolver<V> implements ShortestPathSolver<V> {
-    private final Map<V, Edge<V>> edgeTo;
-    private final Map<V, Double> distTo;
+    /**
+     * Minimum number of vertices in a level before splitting the work across threads.
+     */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final CompactGraph<V> compact;
+    /**
+     * Index of the previous vertex on the shortest path to each vertex, or -1 if there is none.
+     */
+    private final int[] parent;
 
     /**
      * Constructs a new instance by executing the toposort-DAG-shortest-paths algorithm on the graph from the start.
      *
      * @param graph the input graph.
      * @param start the start vertex.
+     * @throws IllegalArgumentException if the graph has a cycle reachable from the start.
      */
     public ToposortDAGSolver(Graph<V> graph, V start) {
-        edgeTo = new HashMap<>();
-        distTo = new HashMap<>();
-
-        Set<V> visited = new HashSet<>();
-        List<V> postOrder = new ArrayList<>();
-
-        dfsPostOrder(graph, start, visited, postOrder);
-
-        Collections.reverse(postOrder);
-
-        distTo.put(start, 0.0);
+        this(graph, start, null);
+    }
 
-        for (V node : postOrder) {
-            for (Edge<V> edge : graph.neighbors(node)) {
-                V neighbor = edge.to;
-                double newDistance = distTo.get(node) + edge.weight;
+    /**
+     * Constructs a new instance by executing the toposort-DAG-shortest-paths algorithm on the graph from the start,
+     * relaxing large levels in parallel on the given fork-join pool.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     * @param pool  the pool for relaxing levels in parallel, or null to relax sequentially.
+     * @throws IllegalArgumentException if the graph has a cycle reachable from the start.
+     */
+    public ToposortDAGSolver(Graph<V> graph, V start, ForkJoinPool pool) {
+        compact = new CompactGraph<>(graph, start);
+        int n = compact.size();
+        parent = new int[n];
+        Arrays.fill(parent, -1);
 
-                if (newDistance < distTo.getOrDefault(neighbor, Double.POSITIVE_INFINITY)) {
-                    distTo.put(neighbor, newDistance);
-                    edgeTo.put(neighbor, edge);
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(n);
+        for (int i = 0; i < compact.targets.length; i += 1) {
+            inDegree.incrementAndGet(compact.targets[i]);
+        }
+        if (inDegree.get(0) > 0) {
+            throw new IllegalArgumentException("Graph has a cycle through the start: " + start);
+        }
+        AtomicLongArray distTo = new AtomicLongArray(n);
+        for (int v = 1; v < n; v += 1) {
+            distTo.set(v, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        }
+        // Vertices in topological order. Each level occupies the range between two consecutive values of end.
+        int[] order = new int[n];
+        AtomicInteger end = new AtomicInteger(1);
+        int begin = 0;
+        while (begin < end.get()) {
+            int[] level = Arrays.copyOfRange(order, begin, end.get());
+            begin = end.get();
+            if (pool == null || level.length < PARALLEL_THRESHOLD) {
+                for (int u : level) {
+                    relax(compact, u, distTo, inDegree, order, end);
                 }
+                for (int u : level) {
+                    chooseParents(compact, u, distTo);
+                }
+            } else {
+                pool.submit(() -> IntStream.of(level).parallel()
+                        .forEach(u -> relax(compact, u, distTo, inDegree, order, end))).join();
+                pool.submit(() -> IntStream.of(level).parallel()
+                        .forEach(u -> chooseParents(compact, u, distTo))).join();
             }
         }
+        if (begin < n) {
+            throw new IllegalArgumentException("Graph has a cycle reachable from the start: " + start);
+        }
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        return compact.path(parent, goal);
     }
 
     /**
-     * Recursively adds nodes from the graph to the result in DFS postorder from the start vertex.
+     * Lowers the distance to each target of the given vertex's edges and appends each target whose last predecessor
+     * this was to the topological order. Safe to call from multiple threads.
      *
-     * @param graph   the input graph.
-     * @param start   the start vertex.
-     * @param visited the set of visited vertices.
-     * @param result  the destination for adding nodes.
+     * @param compact  the compact graph.
+     * @param u        the index of a vertex whose distance is final.
+     * @param distTo   the raw long bits of the distance to each vertex.
+     * @param inDegree the number of unprocessed predecessors of each vertex.
+     * @param order    the vertices in topological order.
+     * @param end      the number of vertices in the topological order so far.
      */
-    private void dfsPostOrder(Graph<V> graph, V node, Set<V> visited, List<V> result) {
-        visited.add(node);
-        for (Edge<V> edge : graph.neighbors(node)) {
-            if (!visited.contains(edge.to)) {
-                dfsPostOrder(graph, edge.to, visited, result);
+    private static void relax(CompactGraph<?> compact, int u, AtomicLongArray distTo, AtomicIntegerArray inDegree,
+                              int[] order, AtomicInteger end) {
+        double fromDist = Double.longBitsToDouble(distTo.get(u));
+        for (int i = compact.offsets[u]; i < compact.offsets[u + 1]; i += 1) {
+            int v = compact.targets[i];
+            double newDist = fromDist + compact.weights[i];
+            long bits = distTo.get(v);
+            while (newDist < Double.longBitsToDouble(bits)
+                    && !distTo.compareAndSet(v, bits, Double.doubleToRawLongBits(newDist))) {
+                bits = distTo.get(v);
+            }
+            if (inDegree.decrementAndGet(v) == 0) {
+                order[end.getAndIncrement()] = v;
             }
         }
-        result.add(node);  // Add the node to the result after processing its neighbors
     }
 
-    @Override
-    public List<V> solution(V goal) {
-        List<V> path = new ArrayList<>();
-        V curr = goal;
-        path.add(curr);
-        while (edgeTo.get(curr) != null) {
-            curr = edgeTo.get(curr).from;
-            path.add(curr);
+    /**
+     * Makes the given vertex the parent of each target of its edges that lies on a shortest path known so far. Called
+     * after a whole level has been relaxed, so a later level overwrites the parent only if it lowered the distance or
+     * ties it. Safe to call from multiple threads, since any tight edge is a correct choice.
+     *
+     * @param compact the compact graph.
+     * @param u       the index of a vertex whose distance is final.
+     * @param distTo  the raw long bits of the distance to each vertex.
+     */
+    private void chooseParents(CompactGraph<V> compact, int u, AtomicLongArray distTo) {
+        double fromDist = Double.longBitsToDouble(distTo.get(u));
+        for (int i = compact.offsets[u]; i < compact.offsets[u + 1]; i += 1) {
+            int v = compact.targets[i];
+            if (fromDist + compact.weights[i] == Double.longBitsToDouble(distTo.get(v))) {
+                parent[v] = u;
+            }
         }
-        Collections.reverse(path);
-        return path;
     }
 }
@@ -0,0 +1,675 @@
+package minpq;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * B+ tree implementation of the {@link MinPQ} interface keyed on primitive {@code double} priority values. This is a
+ * drop-in replacement for {@link DoubleMapMinPQ} with the same ordering (including breaking ties in the order elements
+ * were added or last had their priority value changed) that avoids boxing priority values and allocating a set per
+ * distinct priority value.
+ * <p>
+ * Each element is stored in a slot of parallel arrays and located through an open-addressing hash table of slot
+ * indices. The B+ tree orders slots by priority value and sequence number, storing its keys in primitive arrays within
+ * each leaf, and the leaves are linked in ascending order so that the minimum is always at the front of the first leaf.
+ * Leaves are removed once empty but never merged, so heavy arbitrary removal can leave them partially filled.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class BTreeMinPQ<E> implements MinPQ<E> {
+    /**
+     * The maximum number of keys in a leaf or children in an internal node.
+     */
+    private static final int NODE_CAPACITY = 64;
+    /**
+     * The initial number of slots.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The root of the B+ tree.
+     */
+    private Node root;
+    /**
+     * The leftmost leaf of the B+ tree, which contains the minimum element if this priority queue is not empty.
+     */
+    private Leaf head;
+    /**
+     * The element in each slot.
+     */
+    private Object[] slotElements;
+    /**
+     * The priority value of the element in each slot.
+     */
+    private double[] slotPriorities;
+    /**
+     * The sequence number of the element in each slot, used to break ties between equal priority values.
+     */
+    private long[] slotSequences;
+    /**
+     * The hash code of the element in each slot in use, or the next free slot (or -1) for each free slot.
+     */
+    private int[] slotHashes;
+    /**
+     * The number of slots that have ever been used.
+     */
+    private int numSlots;
+    /**
+     * The most recently freed slot, or -1 if no slots are free.
+     */
+    private int freeSlot;
+    /**
+     * Open-addressing hash table of one more than the slot of each element, or 0 for empty buckets.
+     */
+    private int[] table;
+    /**
+     * The number of bits to shift a spread hash code right by to obtain a bucket index in the table.
+     */
+    private int tableShift;
+    /**
+     * The number of elements in this priority queue.
+     */
+    private int size;
+    /**
+     * The sequence number for the next element-priority pair.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public BTreeMinPQ() {
+        root = head = new Leaf();
+        slotElements = new Object[INITIAL_CAPACITY];
+        slotPriorities = new double[INITIAL_CAPACITY];
+        slotSequences = new long[INITIAL_CAPACITY];
+        slotHashes = new int[INITIAL_CAPACITY];
+        freeSlot = -1;
+        table = new int[2 * INITIAL_CAPACITY];
+        tableShift = Integer.numberOfLeadingZeros(table.length - 1);
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public BTreeMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        int hash = Objects.hashCode(element);
+        if (find(element, hash) >= 0) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        int slot = allocateSlot();
+        slotElements[slot] = element;
+        slotPriorities[slot] = priority;
+        slotSequences[slot] = sequence++;
+        slotHashes[slot] = hash;
+        if (2 * (size + 1) > table.length) {
+            resizeTable(2 * table.length);
+        }
+        insertIntoTable(slot);
+        size += 1;
+        insert(slot);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return find(element, Objects.hashCode(element)) >= 0;
+    }
+
+    @Override
+    public double getPriority(E element) {
+        int bucket = find(element, Objects.hashCode(element));
+        if (bucket < 0) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return slotPriorities[table[bucket] - 1];
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return elementAt(head.slots[0]);
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        int slot = head.slots[0];
+        E element = elementAt(slot);
+        if (head.size > 1) {
+            // Separator keys are only lower bounds, so the front of the first leaf can be removed without a descent.
+            head.removeAt(0);
+        } else {
+            remove(slot);
+        }
+        removeFromTable(bucketOf(slot));
+        freeSlot(slot);
+        size -= 1;
+        return element;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        int bucket = find(element, Objects.hashCode(element));
+        if (bucket < 0) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        int slot = table[bucket] - 1;
+        if (Double.compare(priority, slotPriorities[slot]) == 0) {
+            return;
+        }
+        remove(slot);
+        slotPriorities[slot] = priority;
+        slotSequences[slot] = sequence++;
+        insert(slot);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element in the given slot.
+     *
+     * @param slot the slot.
+     * @return the element in the given slot.
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) slotElements[slot];
+    }
+
+    /**
+     * Returns a free slot, growing the slot arrays if needed.
+     *
+     * @return a free slot.
+     */
+    private int allocateSlot() {
+        if (freeSlot >= 0) {
+            int slot = freeSlot;
+            freeSlot = slotHashes[slot];
+            return slot;
+        }
+        if (numSlots == slotElements.length) {
+            int capacity = 2 * numSlots;
+            slotElements = Arrays.copyOf(slotElements, capacity);
+            slotPriorities = Arrays.copyOf(slotPriorities, capacity);
+            slotSequences = Arrays.copyOf(slotSequences, capacity);
+            slotHashes = Arrays.copyOf(slotHashes, capacity);
+        }
+        numSlots += 1;
+        return numSlots - 1;
+    }
+
+    /**
+     * Frees the given slot for reuse.
+     *
+     * @param slot the slot to free.
+     */
+    private void freeSlot(int slot) {
+        slotElements[slot] = null;
+        slotHashes[slot] = freeSlot;
+        freeSlot = slot;
+    }
+
+    /**
+     * Returns the bucket index in the table where a linear probe for the given hash code starts.
+     *
+     * @param hash the hash code of an element.
+     * @return the bucket index where a linear probe for the given hash code starts.
+     */
+    private int home(int hash) {
+        // Fibonacci hashing spreads the high bits of poor hash codes into the bucket index.
+        return (hash * 0x9E3779B9) >>> tableShift;
+    }
+
+    /**
+     * Returns the bucket index in the table of the given element, or -1 if the element is not present.
+     *
+     * @param element the element to find.
+     * @param hash    the hash code of the element.
+     * @return the bucket index in the table of the given element, or -1 if the element is not present.
+     */
+    private int find(Object element, int hash) {
+        int mask = table.length - 1;
+        for (int i = home(hash); table[i] != 0; i = (i + 1) & mask) {
+            int slot = table[i] - 1;
+            if (slotHashes[slot] == hash && Objects.equals(slotElements[slot], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the bucket index in the table of the given slot in use.
+     *
+     * @param slot the slot to find.
+     * @return the bucket index in the table of the given slot.
+     */
+    private int bucketOf(int slot) {
+        int mask = table.length - 1;
+        int i = home(slotHashes[slot]);
+        while (table[i] != slot + 1) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Inserts the given slot into the table, assuming its element is not already present.
+     *
+     * @param slot the slot to insert.
+     */
+    private void insertIntoTable(int slot) {
+        int mask = table.length - 1;
+        int i = home(slotHashes[slot]);
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    /**
+     * Empties the given bucket, shifting later entries in the same probe sequence back so that no tombstones are needed.
+     *
+     * @param i the bucket index to empty.
+     */
+    private void removeFromTable(int i) {
+        int mask = table.length - 1;
+        for (int j = (i + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+            int h = home(slotHashes[table[j] - 1]);
+            // Move the entry back unless its home lies cyclically within (i, j].
+            boolean stays = i <= j ? (i < h && h <= j) : (i < h || h <= j);
+            if (!stays) {
+                table[i] = table[j];
+                i = j;
+            }
+        }
+        table[i] = 0;
+    }
+
+    /**
+     * Replaces the table with an empty table of the given power-of-two length and reinserts every slot.
+     *
+     * @param length the new table length.
+     */
+    private void resizeTable(int length) {
+        int[] oldTable = table;
+        table = new int[length];
+        tableShift = Integer.numberOfLeadingZeros(length - 1);
+        for (int entry : oldTable) {
+            if (entry != 0) {
+                insertIntoTable(entry - 1);
+            }
+        }
+    }
+
+    /**
+     * Returns a negative integer, zero, or a positive integer as the first key is less than, equal to, or greater than
+     * the second key.
+     *
+     * @param p1 the priority value of the first key.
+     * @param s1 the sequence number of the first key.
+     * @param p2 the priority value of the second key.
+     * @param s2 the sequence number of the second key.
+     * @return the comparison of the first key to the second key.
+     */
+    private static int compare(double p1, long s1, double p2, long s2) {
+        int result = Double.compare(p1, p2);
+        return result != 0 ? result : Long.compare(s1, s2);
+    }
+
+    /**
+     * Inserts the given slot into the B+ tree, splitting the root if needed.
+     *
+     * @param slot the slot to insert.
+     */
+    private void insert(int slot) {
+        Node split = insert(root, slotPriorities[slot], slotSequences[slot], slot);
+        if (split != null) {
+            Inner newRoot = new Inner();
+            newRoot.insertAt(0, root.firstPriority(), root.firstSequence(), root);
+            newRoot.insertAt(1, split.firstPriority(), split.firstSequence(), split);
+            root = newRoot;
+        }
+    }
+
+    /**
+     * Inserts the given key into the subtree rooted at the given node.
+     *
+     * @param node     the root of the subtree.
+     * @param priority the priority value of the key.
+     * @param seq      the sequence number of the key.
+     * @param slot     the slot associated with the key.
+     * @return the new right sibling if the node was split, or null otherwise.
+     */
+    private Node insert(Node node, double priority, long seq, int slot) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int i = leaf.lowerBound(priority, seq);
+            if (leaf.size < NODE_CAPACITY) {
+                leaf.insertAt(i, priority, seq, slot);
+                return null;
+            }
+            Leaf right = leaf.split();
+            if (i <= leaf.size) {
+                leaf.insertAt(i, priority, seq, slot);
+            } else {
+                right.insertAt(i - leaf.size, priority, seq, slot);
+            }
+            return right;
+        }
+        Inner inner = (Inner) node;
+        int c = inner.childIndex(priority, seq);
+        Node child = insert(inner.children[c], priority, seq, slot);
+        if (child == null) {
+            return null;
+        }
+        if (inner.size < NODE_CAPACITY) {
+            inner.insertAt(c + 1, child.firstPriority(), child.firstSequence(), child);
+            return null;
+        }
+        Inner right = inner.split();
+        if (c + 1 <= inner.size) {
+            inner.insertAt(c + 1, child.firstPriority(), child.firstSequence(), child);
+        } else {
+            right.insertAt(c + 1 - inner.size, child.firstPriority(), child.firstSequence(), child);
+        }
+        return right;
+    }
+
+    /**
+     * Removes the key of the given slot from the B+ tree, discarding empty nodes and collapsing the root if needed.
+     *
+     * @param slot the slot to remove.
+     */
+    private void remove(int slot) {
+        if (remove(root, slotPriorities[slot], slotSequences[slot])) {
+            root = head = new Leaf();
+        }
+        while (root instanceof Inner && ((Inner) root).size == 1) {
+            root = ((Inner) root).children[0];
+        }
+    }
+
+    /**
+     * Removes the given key from the subtree rooted at the given node.
+     *
+     * @param node     the root of the subtree.
+     * @param priority the priority value of the key.
+     * @param seq      the sequence number of the key.
+     * @return true if the node is now empty and has been unlinked, or false otherwise.
+     */
+    private boolean remove(Node node, double priority, long seq) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            leaf.removeAt(leaf.lowerBound(priority, seq));
+            if (leaf.size > 0 || leaf == root) {
+                return false;
+            }
+            if (leaf.prev == null) {
+                head = leaf.next;
+            } else {
+                leaf.prev.next = leaf.next;
+            }
+            if (leaf.next != null) {
+                leaf.next.prev = leaf.prev;
+            }
+            return true;
+        }
+        Inner inner = (Inner) node;
+        int c = inner.childIndex(priority, seq);
+        if (remove(inner.children[c], priority, seq)) {
+            inner.removeAt(c);
+        }
+        return inner.size == 0;
+    }
+
+    /**
+     * A node in the B+ tree, whose keys are ordered by priority value and then sequence number.
+     */
+    private abstract static class Node {
+        /**
+         * The priority values of the keys in this node.
+         */
+        final double[] priorities = new double[NODE_CAPACITY];
+        /**
+         * The sequence numbers of the keys in this node.
+         */
+        final long[] sequences = new long[NODE_CAPACITY];
+        /**
+         * The number of keys in this node.
+         */
+        int size;
+
+        /**
+         * Returns the priority value of a lower bound on every key in the subtree rooted at this non-empty node.
+         *
+         * @return the priority value of the lower bound.
+         */
+        double firstPriority() {
+            return priorities[0];
+        }
+
+        /**
+         * Returns the sequence number of a lower bound on every key in the subtree rooted at this non-empty node.
+         *
+         * @return the sequence number of the lower bound.
+         */
+        long firstSequence() {
+            return sequences[0];
+        }
+
+        /**
+         * Returns the index of the first key in this node that is no less than the given key, or the size of this node
+         * if every key is less than the given key.
+         *
+         * @param priority the priority value of the given key.
+         * @param seq      the sequence number of the given key.
+         * @return the index of the first key in this node that is no less than the given key.
+         */
+        int lowerBound(double priority, long seq) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(priorities[mid], sequences[mid], priority, seq) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Opens a gap for a key at the given index by shifting later keys right.
+         *
+         * @param i        the index of the new key.
+         * @param priority the priority value of the new key.
+         * @param seq      the sequence number of the new key.
+         */
+        void openAt(int i, double priority, long seq) {
+            System.arraycopy(priorities, i, priorities, i + 1, size - i);
+            System.arraycopy(sequences, i, sequences, i + 1, size - i);
+            priorities[i] = priority;
+            sequences[i] = seq;
+        }
+
+        /**
+         * Closes the gap left by the key at the given index by shifting later keys left.
+         *
+         * @param i the index of the removed key.
+         */
+        void closeAt(int i) {
+            System.arraycopy(priorities, i + 1, priorities, i, size - i - 1);
+            System.arraycopy(sequences, i + 1, sequences, i, size - i - 1);
+        }
+
+        /**
+         * Moves the upper half of the keys in this full node into the given empty node.
+         *
+         * @param right the empty node to receive the upper half of the keys.
+         * @return the index of the first key moved.
+         */
+        int moveUpperHalf(Node right) {
+            int mid = size / 2;
+            right.size = size - mid;
+            System.arraycopy(priorities, mid, right.priorities, 0, right.size);
+            System.arraycopy(sequences, mid, right.sequences, 0, right.size);
+            size = mid;
+            return mid;
+        }
+    }
+
+    /**
+     * A leaf in the B+ tree, mapping each key to a slot.
+     */
+    private static class Leaf extends Node {
+        /**
+         * The slot associated with each key.
+         */
+        final int[] slots = new int[NODE_CAPACITY];
+        /**
+         * The previous leaf in ascending order, or null if this is the first leaf.
+         */
+        Leaf prev;
+        /**
+         * The next leaf in ascending order, or null if this is the last leaf.
+         */
+        Leaf next;
+
+        /**
+         * Inserts the given key and slot at the given index, assuming this leaf is not full.
+         *
+         * @param i        the index to insert at.
+         * @param priority the priority value of the key.
+         * @param seq      the sequence number of the key.
+         * @param slot     the slot associated with the key.
+         */
+        void insertAt(int i, double priority, long seq, int slot) {
+            openAt(i, priority, seq);
+            System.arraycopy(slots, i, slots, i + 1, size - i);
+            slots[i] = slot;
+            size += 1;
+        }
+
+        /**
+         * Removes the key and slot at the given index.
+         *
+         * @param i the index to remove.
+         */
+        void removeAt(int i) {
+            closeAt(i);
+            System.arraycopy(slots, i + 1, slots, i, size - i - 1);
+            size -= 1;
+        }
+
+        /**
+         * Moves the upper half of this full leaf into a new leaf linked immediately after this leaf.
+         *
+         * @return the new leaf.
+         */
+        Leaf split() {
+            Leaf right = new Leaf();
+            int mid = moveUpperHalf(right);
+            System.arraycopy(slots, mid, right.slots, 0, right.size);
+            right.prev = this;
+            right.next = next;
+            if (next != null) {
+                next.prev = right;
+            }
+            next = right;
+            return right;
+        }
+    }
+
+    /**
+     * An internal node in the B+ tree, where the key at each index is a lower bound on every key in the corresponding
+     * child subtree and no greater than any key in the following child subtrees.
+     */
+    private static class Inner extends Node {
+        /**
+         * The child subtrees.
+         */
+        final Node[] children = new Node[NODE_CAPACITY];
+
+        /**
+         * Returns the index of the child subtree that would contain the given key.
+         *
+         * @param priority the priority value of the given key.
+         * @param seq      the sequence number of the given key.
+         * @return the index of the child subtree that would contain the given key.
+         */
+        int childIndex(double priority, long seq) {
+            int lo = 1;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(priorities[mid], sequences[mid], priority, seq) <= 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo - 1;
+        }
+
+        /**
+         * Inserts the given lower bound and child at the given index, assuming this node is not full.
+         *
+         * @param i        the index to insert at.
+         * @param priority the priority value of the lower bound.
+         * @param seq      the sequence number of the lower bound.
+         * @param child    the child subtree.
+         */
+        void insertAt(int i, double priority, long seq, Node child) {
+            openAt(i, priority, seq);
+            System.arraycopy(children, i, children, i + 1, size - i);
+            children[i] = child;
+            size += 1;
+        }
+
+        /**
+         * Removes the lower bound and child at the given index.
+         *
+         * @param i the index to remove.
+         */
+        void removeAt(int i) {
+            closeAt(i);
+            System.arraycopy(children, i + 1, children, i, size - i - 1);
+            size -= 1;
+            children[size] = null;
+        }
+
+        /**
+         * Moves the upper half of this full node into a new node.
+         *
+         * @return the new node.
+         */
+        Inner split() {
+            Inner right = new Inner();
+            int mid = moveUpperHalf(right);
+            System.arraycopy(children, mid, right.children, 0, right.size);
+            Arrays.fill(children, mid, NODE_CAPACITY, null);
+            return right;
+        }
+    }
+}
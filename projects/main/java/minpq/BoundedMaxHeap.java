@@ -0,0 +1,145 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity binary max-heap that retains the elements with the lowest priority values offered to it. Used to select
+ * the lowest-priority elements from a large collection with memory proportional only to the number selected. Ties
+ * between equal priority values are broken by sequence number, like {@link PriorityNode}.
+ *
+ * @param <E> the type of elements in this heap.
+ * @see Selection
+ */
+class BoundedMaxHeap<E> {
+    /**
+     * The retained elements in max-heap order by their priority values.
+     */
+    private final Object[] elements;
+    /**
+     * The priority values parallel to the {@code elements} array.
+     */
+    private final double[] priorities;
+    /**
+     * The sequence numbers parallel to the {@code elements} array.
+     */
+    private final long[] sequences;
+    /**
+     * The number of retained elements.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty heap that retains up to the given number of elements.
+     *
+     * @param capacity the maximum number of elements to retain.
+     */
+    BoundedMaxHeap(int capacity) {
+        elements = new Object[capacity];
+        priorities = new double[capacity];
+        sequences = new long[capacity];
+        size = 0;
+    }
+
+    /**
+     * Offers the element with the given priority value and sequence number. If the heap is full, the element replaces
+     * the greatest retained element only if the offered element precedes it.
+     *
+     * @param element  the element to offer.
+     * @param priority the priority value for the element.
+     * @param sequence the sequence number for breaking ties between equal priority values.
+     */
+    void offer(E element, double priority, long sequence) {
+        if (size < elements.length) {
+            elements[size] = element;
+            priorities[size] = priority;
+            sequences[size] = sequence;
+            swim(size);
+            size += 1;
+        } else if (size > 0 && less(priority, sequence, priorities[0], sequences[0])) {
+            elements[0] = element;
+            priorities[0] = priority;
+            sequences[0] = sequence;
+            sink(0);
+        }
+    }
+
+    /**
+     * Returns the number of retained elements.
+     *
+     * @return the number of retained elements.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Empties this heap and returns its retained elements in ascending order of priority value.
+     *
+     * @return a list of the retained elements in ascending order of priority value.
+     */
+    @SuppressWarnings("unchecked")
+    List<E> drainAscending() {
+        int n = size;
+        // In-place heapsort: repeatedly move the maximum to the end of the shrinking heap.
+        while (size > 1) {
+            size -= 1;
+            exch(0, size);
+            sink(0);
+        }
+        size = 0;
+        List<E> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i += 1) {
+            result.add((E) elements[i]);
+            elements[i] = null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if the first priority-sequence pair precedes the second.
+     *
+     * @param p1 the first priority value.
+     * @param s1 the first sequence number.
+     * @param p2 the second priority value.
+     * @param s2 the second sequence number.
+     * @return true if the first priority-sequence pair precedes the second.
+     */
+    private static boolean less(double p1, long s1, double p2, long s2) {
+        int result = Double.compare(p1, p2);
+        return result < 0 || (result == 0 && s1 < s2);
+    }
+
+    private boolean less(int i, int j) {
+        return less(priorities[i], sequences[i], priorities[j], sequences[j]);
+    }
+
+    private void swim(int k) {
+        while (k > 0 && less((k - 1) / 2, k)) {
+            exch((k - 1) / 2, k);
+            k = (k - 1) / 2;
+        }
+    }
+
+    private void sink(int k) {
+        while (2 * k + 1 < size) {
+            int j = 2 * k + 1;
+            if (j + 1 < size && less(j, j + 1)) j++;
+            if (!less(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    private void exch(int i, int j) {
+        Object element = elements[i];
+        elements[i] = elements[j];
+        elements[j] = element;
+        double priority = priorities[i];
+        priorities[i] = priorities[j];
+        priorities[j] = priority;
+        long sequence = sequences[i];
+        sequences[i] = sequences[j];
+        sequences[j] = sequence;
+    }
+}
@@ -3,14 +3,16 @@ package minpq;
 import java.util.*;
 
 /**
- * {@link TreeMap} and {@link HashMap} implementation of the {@link MinPQ} interface.
+ * {@link TreeMap} and {@link HashMap} implementation of the {@link MinPQ} interface. Elements that share the same
+ * priority value are kept in a {@link LinkedHashSet} so that ties are broken in the order the elements were added or
+ * last had their priority value changed.
  *
  * @param <E> the type of elements in this priority queue.
  * @see MinPQ
  */
 public class DoubleMapMinPQ<E> implements MinPQ<E> {
     /**
-     * {@link NavigableMap} of priority values to all elements that share the same priority values.
+     * {@link NavigableMap} of priority values to all elements that share the same priority values in insertion order.
      */
     private final NavigableMap<Double, Set<E>> priorityToElement;
     /**
@@ -38,7 +40,7 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
             E element = entry.getKey();
             double priority = entry.getValue();
             if (!priorityToElement.containsKey(priority)) {
-                priorityToElement.put(priority, new HashSet<>());
+                priorityToElement.put(priority, new LinkedHashSet<>());
             }
             Set<E> elementsWithPriority = priorityToElement.get(priority);
             elementsWithPriority.add(element);
@@ -51,7 +53,7 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
             throw new IllegalArgumentException("Already contains " + element);
         }
         if (!priorityToElement.containsKey(priority)) {
-            priorityToElement.put(priority, new HashSet<>());
+            priorityToElement.put(priority, new LinkedHashSet<>());
         }
         Set<E> elementsWithPriority = priorityToElement.get(priority);
         elementsWithPriority.add(element);
@@ -97,13 +99,38 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
         return element;
     }
 
+    /**
+     * {@inheritDoc} Walks the priority values in ascending order and removes whole groups of elements at a time, rather
+     * than looking up the minimum priority value once per removed element.
+     */
+    @Override
+    public List<E> removeMin(int numElements) {
+        numElements = Math.max(0, Math.min(numElements, size()));
+        List<E> result = new ArrayList<>(numElements);
+        Iterator<Set<E>> groups = priorityToElement.values().iterator();
+        while (result.size() < numElements) {
+            Set<E> elementsWithPriority = groups.next();
+            Iterator<E> it = elementsWithPriority.iterator();
+            while (it.hasNext() && result.size() < numElements) {
+                E element = it.next();
+                it.remove();
+                elementToPriority.remove(element);
+                result.add(element);
+            }
+            if (elementsWithPriority.isEmpty()) {
+                groups.remove();
+            }
+        }
+        return result;
+    }
+
     @Override
     public void changePriority(E element, double priority) {
         if (!contains(element)) {
             throw new NoSuchElementException("PQ does not contain " + element);
         }
         double oldPriority = elementToPriority.get(element);
-        if (priority != oldPriority) {
+        if (Double.compare(priority, oldPriority) != 0) {
             Set<E> elementsWithOldPriority = priorityToElement.get(oldPriority);
             elementsWithOldPriority.remove(element);
             if (elementsWithOldPriority.isEmpty()) {
@@ -120,10 +147,10 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
     }
 
     /**
-     * Returns any one element from the given iterable.
+     * Returns the first element from the given iterable.
      *
      * @param it the iterable of elements.
-     * @return any one element from the given iterable.
+     * @return the first element from the given iterable.
      */
     private E firstOf(Iterable<E> it) {
         return it.iterator().next();
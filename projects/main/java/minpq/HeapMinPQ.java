@@ -1,9 +1,6 @@
 package minpq;
 
-import java.util.Comparator;
-import java.util.Map;
-import java.util.NoSuchElementException;
-import java.util.PriorityQueue;
+import java.util.*;
 
 /**
  * {@link PriorityQueue} implementation of the {@link MinPQ} interface.
@@ -15,13 +12,17 @@ public class HeapMinPQ<E> implements MinPQ<E> {
     /**
      * {@link PriorityQueue} storing {@link PriorityNode} objects representing each element-priority pair.
      */
-    private final PriorityQueue<PriorityNode<E>> pq;
+    private PriorityQueue<PriorityNode<E>> pq;
+    /**
+     * The sequence number for the next element-priority pair, used to break ties between equal priority values.
+     */
+    private long sequence;
 
     /**
      * Constructs an empty instance.
      */
     public HeapMinPQ() {
-        pq = new PriorityQueue<>(Comparator.comparingDouble(PriorityNode::getPriority));
+        pq = new PriorityQueue<>();
     }
 
     /**
@@ -30,10 +31,12 @@ public class HeapMinPQ<E> implements MinPQ<E> {
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public HeapMinPQ(Map<E, Double> elementsAndPriorities) {
-        pq = new PriorityQueue<>(elementsAndPriorities.size(), Comparator.comparingDouble(PriorityNode::getPriority));
+        List<PriorityNode<E>> nodes = new ArrayList<>(elementsAndPriorities.size());
         for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+            nodes.add(new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
         }
+        // PriorityQueue heapifies a non-sorted collection in linear time.
+        pq = new PriorityQueue<>(nodes);
     }
 
     @Override
@@ -41,10 +44,33 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (contains(element)) {
             throw new IllegalArgumentException("Already contains " + element);
         }
-        PriorityNode<E> node = new PriorityNode<>(element, priority);
+        PriorityNode<E> node = new PriorityNode<>(element, priority, sequence++);
         pq.add(node);
     }
 
+    /**
+     * {@inheritDoc} Checks every element for containment in a single pass and then heapifies the combined elements in
+     * linear time rather than scanning and sifting up each element individually.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        Set<E> present = new HashSet<>(pq.size());
+        for (PriorityNode<E> node : pq) {
+            present.add(node.getElement());
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (present.contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        List<PriorityNode<E>> nodes = new ArrayList<>(pq.size() + elementsAndPriorities.size());
+        nodes.addAll(pq);
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            nodes.add(new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
+        }
+        pq = new PriorityQueue<>(nodes);
+    }
+
     @Override
     public boolean contains(E element) {
         for (PriorityNode<E> node : pq) {
@@ -94,12 +120,40 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (remove == null) {
             throw new NoSuchElementException("Element not found: " + element);
         }
+        if (Double.compare(priority, remove.getPriority()) == 0) {
+            return;
+        }
 
         pq.remove(remove);
-        PriorityNode<E> newNode = new PriorityNode<>(element, priority);
+        PriorityNode<E> newNode = new PriorityNode<>(element, priority, sequence++);
         pq.add(newNode);
     }
 
+    /**
+     * {@inheritDoc} Indexes every element in a single pass, replaces the changed nodes, and then heapifies all the nodes
+     * in linear time rather than scanning and removing each changed node individually.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        Map<E, PriorityNode<E>> nodes = new HashMap<>(pq.size());
+        for (PriorityNode<E> node : pq) {
+            nodes.put(node.getElement(), node);
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!nodes.containsKey(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            E element = entry.getKey();
+            double priority = entry.getValue();
+            if (Double.compare(priority, nodes.get(element).getPriority()) != 0) {
+                nodes.put(element, new PriorityNode<>(element, priority, sequence++));
+            }
+        }
+        pq = new PriorityQueue<>(nodes.values());
+    }
+
     @Override
     public int size() {
         return pq.size();
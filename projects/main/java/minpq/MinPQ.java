@@ -1,18 +1,28 @@
 package minpq;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Priority queue where objects have <b>extrinsic priority</b>. Whereas {@link java.util.PriorityQueue} relies on
  * {@link Comparable} objects (or a {@link java.util.Comparator}), this interface requires priority values represented
- * using {@code double} values. Elements must be unique, but priority values do not need to be unique.
+ * using {@code double} values. Elements must be unique, but priority values do not need to be unique. Elements with
+ * equal priority values are removed in the order they were added or last had their priority value changed, except
+ * where an implementation documents otherwise.
  *
  * @param <E> the type of elements in this priority queue.
  * @see DoubleMapMinPQ
+ * @see BTreeMinPQ
  * @see UnsortedArrayMinPQ
  * @see HeapMinPQ
  * @see OptimizedHeapMinPQ
+ * @see PairingHeapMinPQ
+ * @see RadixHeapMinPQ
+ * @see OffHeapMinPQ
+ * @see MultiQueueMinPQ
  */
 public interface MinPQ<E> {
 
@@ -25,6 +35,24 @@ public interface MinPQ<E> {
      */
     void add(E element, double priority);
 
+    /**
+     * Adds all the given elements with their priority values. Implementations may override this method to load elements
+     * in bulk more efficiently than adding each element individually.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     * @throws IllegalArgumentException if any element is null or already present.
+     */
+    default void addAll(Map<E, Double> elementsAndPriorities) {
+        for (E element : elementsAndPriorities.keySet()) {
+            if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Adds an element with the given priority value if it is not already present. Otherwise, updates the priority value
      * of the existing element.
@@ -88,6 +116,20 @@ public interface MinPQ<E> {
         return result;
     }
 
+    /**
+     * Removes up to the given number of lowest-priority elements and adds them to the given collection in the order they
+     * were removed.
+     *
+     * @param collection  the collection to add the removed elements to.
+     * @param numElements the desired number of lowest-priority elements to remove.
+     * @return the number of elements removed.
+     */
+    default int drainTo(Collection<? super E> collection, int numElements) {
+        List<E> removed = removeMin(numElements);
+        collection.addAll(removed);
+        return removed.size();
+    }
+
     /**
      * Updates the given elements' associated priority value.
      *
@@ -97,6 +139,25 @@ public interface MinPQ<E> {
      */
     void changePriority(E element, double priority);
 
+    /**
+     * Updates the priority values of all the given elements, as if by calling {@link #changePriority(Object, double)} on
+     * each entry in iteration order. Implementations may override this method to update elements in bulk more
+     * efficiently than updating each element individually.
+     *
+     * @param elementsAndPriorities each element and its updated priority value.
+     * @throws NoSuchElementException if any element is not present, in which case no priority values are changed.
+     */
+    default void changePriorities(Map<E, Double> elementsAndPriorities) {
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!contains(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            changePriority(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Returns the number of elements in this priority queue.
      *
@@ -0,0 +1,320 @@
+package minpq;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe MultiQueue implementation of the {@link MinPQ} interface. Elements are spread across several independently
+ * locked {@link OptimizedHeapMinPQ} sub-queues so that producer and consumer threads rarely contend for the same lock.
+ * <p>
+ * <b>Relaxation semantics.</b> {@link #removeMin()} samples two random sub-queues and removes the minimum of whichever
+ * has the lower minimum priority value, so it returns <i>a</i> low-priority element rather than necessarily <i>the</i>
+ * lowest-priority element. The expected rank of the removed element is proportional to the number of sub-queues. With
+ * a single sub-queue, or when the sampled sub-queues are empty and all sub-queues are scanned, the removal is exact.
+ * Only a single sub-queue guarantees that elements with equal priority values are removed in insertion order.
+ * {@link #peekMin()} scans every sub-queue and is exact when no other thread is modifying this priority queue. Both may
+ * throw {@link NoSuchElementException} if other threads empty the scanned sub-queues while refilling others. All other
+ * operations, including {@link #addOrChangePriority(Object, double)}, are atomic with respect to each element.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class MultiQueueMinPQ<E> implements MinPQ<E> {
+    /**
+     * The independently locked sub-queues.
+     */
+    private final SubQueue<E>[] queues;
+    /**
+     * {@link Map} of each element to the index of the sub-queue that contains it.
+     */
+    private final Map<E, Integer> elementsToQueue;
+
+    /**
+     * Constructs an empty instance with two sub-queues per available processor.
+     */
+    public MultiQueueMinPQ() {
+        this(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an empty instance with the given number of sub-queues.
+     *
+     * @param numQueues the number of sub-queues.
+     * @throws IllegalArgumentException if the number of sub-queues is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public MultiQueueMinPQ(int numQueues) {
+        if (numQueues <= 0) {
+            throw new IllegalArgumentException("Number of sub-queues must be positive: " + numQueues);
+        }
+        queues = (SubQueue<E>[]) new SubQueue[numQueues];
+        for (int i = 0; i < numQueues; i += 1) {
+            queues[i] = new SubQueue<>();
+        }
+        elementsToQueue = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public MultiQueueMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (!tryAdd(element, priority)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+    }
+
+    @Override
+    public void addOrChangePriority(E element, double priority) {
+        while (true) {
+            Integer index = elementsToQueue.get(element);
+            if (index == null) {
+                if (tryAdd(element, priority)) {
+                    return;
+                }
+            } else {
+                SubQueue<E> queue = queues[index];
+                queue.lock.lock();
+                try {
+                    if (queue.heap.contains(element)) {
+                        queue.heap.changePriority(element, priority);
+                        queue.updateTop();
+                        return;
+                    }
+                } finally {
+                    queue.lock.unlock();
+                }
+            }
+            // The element was concurrently added or removed, so try again.
+        }
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementsToQueue.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Integer index = elementsToQueue.get(element);
+        if (index != null) {
+            SubQueue<E> queue = queues[index];
+            queue.lock.lock();
+            try {
+                if (queue.heap.contains(element)) {
+                    return queue.heap.getPriority(element);
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+        throw new NoSuchElementException("PQ does not contain " + element);
+    }
+
+    @Override
+    public E peekMin() {
+        while (true) {
+            int index = indexOfLowestTop();
+            if (index < 0) {
+                throw new NoSuchElementException("PQ is empty");
+            }
+            SubQueue<E> queue = queues[index];
+            queue.lock.lock();
+            try {
+                if (!queue.heap.isEmpty()) {
+                    return queue.heap.peekMin();
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public E removeMin() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Two-choice sampling: try a bounded number of random pairs without blocking.
+        for (int attempt = 0; attempt < queues.length; attempt += 1) {
+            int i = random.nextInt(queues.length);
+            int j = random.nextInt(queues.length);
+            int index = queues[j].precedes(queues[i]) ? j : i;
+            SubQueue<E> queue = queues[index];
+            if (queue.size == 0) {
+                // Both sampled sub-queues appear empty.
+                break;
+            }
+            if (queue.lock.tryLock()) {
+                try {
+                    if (!queue.heap.isEmpty()) {
+                        return removeMin(queue, index);
+                    }
+                } finally {
+                    queue.lock.unlock();
+                }
+            }
+        }
+        // Fall back to scanning every sub-queue for the lowest minimum.
+        while (true) {
+            int index = indexOfLowestTop();
+            if (index < 0) {
+                throw new NoSuchElementException("PQ is empty");
+            }
+            SubQueue<E> queue = queues[index];
+            queue.lock.lock();
+            try {
+                if (!queue.heap.isEmpty()) {
+                    return removeMin(queue, index);
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Integer index = elementsToQueue.get(element);
+        if (index != null) {
+            SubQueue<E> queue = queues[index];
+            queue.lock.lock();
+            try {
+                if (queue.heap.contains(element)) {
+                    queue.heap.changePriority(element, priority);
+                    queue.updateTop();
+                    return;
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+        throw new NoSuchElementException("PQ does not contain " + element);
+    }
+
+    @Override
+    public int size() {
+        return elementsToQueue.size();
+    }
+
+    /**
+     * Adds the element to a random sub-queue unless it is already present.
+     *
+     * @param element  the element to add.
+     * @param priority the priority value for the element.
+     * @return true if the element was added, or false if it was already present.
+     */
+    private boolean tryAdd(E element, double priority) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(queues.length);
+        // Prefer an uncontended sub-queue, but block on the last choice rather than spin.
+        for (int attempt = 1; attempt < queues.length && !queues[index].lock.tryLock(); attempt += 1) {
+            index = random.nextInt(queues.length);
+        }
+        SubQueue<E> queue = queues[index];
+        if (!queue.lock.isHeldByCurrentThread()) {
+            queue.lock.lock();
+        }
+        try {
+            // Registering the element while holding the lock ensures it is never visible in the map but not the heap.
+            if (elementsToQueue.putIfAbsent(element, index) != null) {
+                return false;
+            }
+            queue.heap.add(element, priority);
+            queue.updateTop();
+            return true;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the minimum element of the given locked, non-empty sub-queue.
+     *
+     * @param queue the sub-queue, whose lock must be held by the current thread.
+     * @param index the index of the sub-queue.
+     * @return the minimum element of the sub-queue.
+     */
+    private E removeMin(SubQueue<E> queue, int index) {
+        E element = queue.heap.removeMin();
+        queue.updateTop();
+        elementsToQueue.remove(element, index);
+        return element;
+    }
+
+    /**
+     * Returns the index of the sub-queue with the lowest minimum priority value, or -1 if all sub-queues appear empty.
+     *
+     * @return the index of the sub-queue with the lowest minimum priority value, or -1 if all sub-queues appear empty.
+     */
+    private int indexOfLowestTop() {
+        int result = 0;
+        for (int i = 1; i < queues.length; i += 1) {
+            if (queues[i].precedes(queues[result])) {
+                result = i;
+            }
+        }
+        return queues[result].size == 0 ? -1 : result;
+    }
+
+    /**
+     * A sub-queue guarded by its own lock.
+     *
+     * @param <T> the type of elements in this sub-queue.
+     */
+    private static class SubQueue<T> {
+        /**
+         * The lock guarding all access to the heap.
+         */
+        final ReentrantLock lock = new ReentrantLock();
+        /**
+         * The heap of elements in this sub-queue.
+         */
+        final MinPQ<T> heap = new OptimizedHeapMinPQ<>();
+        /**
+         * The minimum priority value in the heap, if the heap is not empty. Read without the lock to cheaply compare
+         * sub-queues.
+         */
+        volatile double top;
+        /**
+         * The number of elements in the heap. Read without the lock to cheaply compare sub-queues.
+         */
+        volatile int size;
+
+        /**
+         * Updates the cached minimum priority value and size. Must be called while holding the lock.
+         */
+        void updateTop() {
+            if (!heap.isEmpty()) {
+                top = heap.getPriority(heap.peekMin());
+            }
+            size = heap.size();
+        }
+
+        /**
+         * Returns true if this sub-queue appears to have a lower minimum priority value than the other sub-queue. Empty
+         * sub-queues never precede non-empty sub-queues.
+         *
+         * @param other the other sub-queue.
+         * @return true if this sub-queue appears to have a lower minimum priority value than the other sub-queue.
+         */
+        boolean precedes(SubQueue<?> other) {
+            if (size == 0) {
+                return false;
+            } else if (other.size == 0) {
+                return true;
+            }
+            return top < other.top;
+        }
+    }
+}
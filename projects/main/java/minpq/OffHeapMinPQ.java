@@ -0,0 +1,406 @@
+package minpq;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary heap implementation of the {@link MinPQ} interface whose heap lives outside the Java heap. Each element is
+ * assigned an {@code int} handle, and the heap itself only stores handles, priority values, and sequence numbers in
+ * direct {@link ByteBuffer} storage that the garbage collector never scans. Compared to {@link OptimizedHeapMinPQ}, no
+ * {@link PriorityNode} is allocated per element, so very large frontiers (tens of millions of elements) cost roughly
+ * {@value #BYTES_PER_ENTRY} bytes of off-heap memory per element plus one map entry and one list slot on the Java heap.
+ * <p>
+ * The off-heap storage grows by doubling and is released when this priority queue becomes unreachable and is garbage
+ * collected. Handles of removed elements are reused, so the storage never exceeds the largest size this priority queue
+ * has reached. {@link #capacity()} and {@link #offHeapBytes()} report the current footprint.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class OffHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * The number of off-heap bytes used per unit of capacity: a priority value, a sequence number, and a handle per heap
+     * slot, and a heap index per handle.
+     */
+    public static final int BYTES_PER_ENTRY = Double.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    /**
+     * The largest supported capacity, limited by the maximum size of a single {@link ByteBuffer}.
+     */
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / Long.BYTES - 1;
+    /**
+     * The capacity of an instance constructed without an initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * {@link Map} of each element to its handle.
+     */
+    private final Map<E, Integer> elementsToHandle;
+    /**
+     * {@link List} of each handle to its element, or null if the handle is free.
+     */
+    private final List<E> handlesToElement;
+    /**
+     * The priority value at each heap index, starting from index 1.
+     */
+    private ByteBuffer priorities;
+    /**
+     * The sequence number at each heap index, starting from index 1, used to break ties between equal priority values.
+     */
+    private ByteBuffer sequences;
+    /**
+     * The handle at each heap index, starting from index 1.
+     */
+    private ByteBuffer handles;
+    /**
+     * The heap index of each handle in use, or the next free handle (or -1) for each free handle.
+     */
+    private ByteBuffer indices;
+    /**
+     * The number of heap indices, including the unused index 0, that the off-heap storage can hold.
+     */
+    private int capacity;
+    /**
+     * The number of elements in this priority queue.
+     */
+    private int size;
+    /**
+     * The most recently freed handle, or -1 if no handles are free.
+     */
+    private int freeHandle;
+    /**
+     * The sequence number for the next element-priority pair.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public OffHeapMinPQ() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty instance with off-heap storage for the given number of elements.
+     *
+     * @param initialCapacity the number of elements to allocate storage for.
+     * @throws IllegalArgumentException if the initial capacity is negative or too large.
+     */
+    public OffHeapMinPQ(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elementsToHandle = new HashMap<>();
+        handlesToElement = new ArrayList<>();
+        freeHandle = -1;
+        resize(initialCapacity + 1);
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public OffHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        this(elementsAndPriorities.size());
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            append(entry.getKey(), entry.getValue());
+        }
+        heapify();
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        append(element, priority);
+        swim(size);
+    }
+
+    /**
+     * {@inheritDoc} When adding at least as many elements as are already present, appends all the elements and
+     * restores the heap invariant bottom-up in linear time rather than sifting up each element individually.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        if (elementsAndPriorities.size() < size) {
+            MinPQ.super.addAll(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            append(entry.getKey(), entry.getValue());
+        }
+        heapify();
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementsToHandle.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Integer handle = elementsToHandle.get(element);
+        if (handle == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return priority(index(handle));
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return handlesToElement.get(handle(1));
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        int handle = handle(1);
+        E minElement = handlesToElement.get(handle);
+        exch(1, size);
+        size -= 1;
+        sink(1);
+        elementsToHandle.remove(minElement);
+        handlesToElement.set(handle, null);
+        setIndex(handle, freeHandle);
+        freeHandle = handle;
+        return minElement;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Integer handle = elementsToHandle.get(element);
+        if (handle == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        int index = index(handle);
+        int comparison = Double.compare(priority, priority(index));
+        if (comparison == 0) {
+            return;
+        }
+        priorities.putDouble(index * Double.BYTES, priority);
+        sequences.putLong(index * Long.BYTES, sequence++);
+        if (comparison < 0) {
+            swim(index);
+        } else {
+            sink(index);
+        }
+    }
+
+    /**
+     * {@inheritDoc} When changing at least a quarter of the elements, updates every priority value in place and then
+     * restores the heap invariant bottom-up in linear time rather than sifting each element individually.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        int numChanges = elementsAndPriorities.size();
+        if (numChanges < size / 4) {
+            MinPQ.super.changePriorities(elementsAndPriorities);
+            return;
+        }
+        int[] changed = new int[numChanges];
+        int i = 0;
+        for (E element : elementsAndPriorities.keySet()) {
+            Integer handle = elementsToHandle.get(element);
+            if (handle == null) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+            changed[i] = index(handle);
+            i += 1;
+        }
+        i = 0;
+        for (double priority : elementsAndPriorities.values()) {
+            int index = changed[i];
+            if (Double.compare(priority, priority(index)) != 0) {
+                priorities.putDouble(index * Double.BYTES, priority);
+                sequences.putLong(index * Long.BYTES, sequence++);
+            }
+            i += 1;
+        }
+        heapify();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements this priority queue can hold before its off-heap storage must grow.
+     *
+     * @return the number of elements this priority queue can hold before its off-heap storage must grow.
+     */
+    public int capacity() {
+        return capacity - 1;
+    }
+
+    /**
+     * Returns the number of bytes of off-heap storage currently allocated by this priority queue.
+     *
+     * @return the number of bytes of off-heap storage currently allocated by this priority queue.
+     */
+    public long offHeapBytes() {
+        return (long) capacity * BYTES_PER_ENTRY;
+    }
+
+    /**
+     * Appends the element-priority pair to the end of the heap without restoring the heap invariant.
+     *
+     * @param element  the element to append.
+     * @param priority the priority value for the element.
+     */
+    private void append(E element, double priority) {
+        if (size + 1 == capacity) {
+            if (capacity > MAX_CAPACITY) {
+                throw new IllegalStateException("PQ is full");
+            }
+            resize((int) Math.min(2L * capacity, MAX_CAPACITY + 1));
+        }
+        int handle;
+        if (freeHandle >= 0) {
+            handle = freeHandle;
+            freeHandle = index(handle);
+            handlesToElement.set(handle, element);
+        } else {
+            handle = handlesToElement.size();
+            handlesToElement.add(element);
+        }
+        elementsToHandle.put(element, handle);
+        size += 1;
+        priorities.putDouble(size * Double.BYTES, priority);
+        sequences.putLong(size * Long.BYTES, sequence++);
+        handles.putInt(size * Integer.BYTES, handle);
+        setIndex(handle, size);
+    }
+
+    /**
+     * Restores the heap invariant over the entire heap in linear time by sinking each internal node, starting from the
+     * last internal node and working back towards the root.
+     */
+    private void heapify() {
+        for (int k = size / 2; k >= 1; k -= 1) {
+            sink(k);
+        }
+    }
+
+    /**
+     * Replaces the off-heap storage with storage for the given number of heap indices, copying over the contents.
+     *
+     * @param newCapacity the number of heap indices, including the unused index 0.
+     */
+    private void resize(int newCapacity) {
+        priorities = copyOf(priorities, newCapacity * Double.BYTES);
+        sequences = copyOf(sequences, newCapacity * Long.BYTES);
+        handles = copyOf(handles, newCapacity * Integer.BYTES);
+        indices = copyOf(indices, newCapacity * Integer.BYTES);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Returns a new direct buffer with the given number of bytes that starts with the contents of the given buffer.
+     *
+     * @param buffer the buffer to copy, or null.
+     * @param bytes  the number of bytes in the new buffer.
+     * @return a new direct buffer with the given number of bytes.
+     */
+    private static ByteBuffer copyOf(ByteBuffer buffer, int bytes) {
+        ByteBuffer result = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        if (buffer != null) {
+            result.put(buffer.duplicate().clear());
+            result.clear();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the priority value at the given heap index.
+     *
+     * @param index the heap index.
+     * @return the priority value at the given heap index.
+     */
+    private double priority(int index) {
+        return priorities.getDouble(index * Double.BYTES);
+    }
+
+    /**
+     * Returns the handle at the given heap index.
+     *
+     * @param index the heap index.
+     * @return the handle at the given heap index.
+     */
+    private int handle(int index) {
+        return handles.getInt(index * Integer.BYTES);
+    }
+
+    /**
+     * Returns the heap index of the given handle in use, or the next free handle if the given handle is free.
+     *
+     * @param handle the handle.
+     * @return the heap index of the given handle in use, or the next free handle if the given handle is free.
+     */
+    private int index(int handle) {
+        return indices.getInt(handle * Integer.BYTES);
+    }
+
+    /**
+     * Sets the heap index of the given handle, or the next free handle if the given handle is free.
+     *
+     * @param handle the handle.
+     * @param index  the heap index or next free handle.
+     */
+    private void setIndex(int handle, int index) {
+        indices.putInt(handle * Integer.BYTES, index);
+    }
+
+    private void swim(int k) {
+        while (k > 1 && greater(k / 2, k)) {
+            exch(k / 2, k);
+            k = k / 2;
+        }
+    }
+
+    private void sink(int k) {
+        while (2 * k <= size) {
+            int j = 2 * k;
+            if (j < size && greater(j, j + 1)) j++;
+            if (!greater(k, j)) break;
+            exch(k, j);
+            k = j;
+        }
+    }
+
+    private boolean greater(int i, int j) {
+        int comparison = Double.compare(priority(i), priority(j));
+        return comparison > 0
+                || (comparison == 0 && sequences.getLong(i * Long.BYTES) > sequences.getLong(j * Long.BYTES));
+    }
+
+    private void exch(int i, int j) {
+        double priority = priority(i);
+        priorities.putDouble(i * Double.BYTES, priority(j));
+        priorities.putDouble(j * Double.BYTES, priority);
+        long seq = sequences.getLong(i * Long.BYTES);
+        sequences.putLong(i * Long.BYTES, sequences.getLong(j * Long.BYTES));
+        sequences.putLong(j * Long.BYTES, seq);
+        int handle = handle(i);
+        handles.putInt(i * Integer.BYTES, handle(j));
+        handles.putInt(j * Integer.BYTES, handle);
+        setIndex(handle(i), i);
+        setIndex(handle(j), j);
+    }
+}
@@ -17,6 +17,10 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
      * {@link Map} of each element to its associated index in the {@code elements} heap.
      */
     private final Map<E, Integer> elementsToIndex;
+    /**
+     * The sequence number for the next element-priority pair, used to break ties between equal priority values.
+     */
+    private long sequence;
 
     /**
      * Constructs an empty instance.
@@ -33,9 +37,13 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public OptimizedHeapMinPQ(Map<E, Double> elementsAndPriorities) {
-        elements = new ArrayList<>(elementsAndPriorities.size());
+        elements = new ArrayList<>(elementsAndPriorities.size() + 1);
         elementsToIndex = new HashMap<>(elementsAndPriorities.size());
         elements.add(null);
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            append(entry.getKey(), entry.getValue());
+        }
+        heapify();
     }
 
     @Override
@@ -44,7 +52,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
             throw new IllegalArgumentException("Already contains " + element);
         }
 
-        PriorityNode<E> newNode = new PriorityNode<>(element, priority);
+        PriorityNode<E> newNode = new PriorityNode<>(element, priority, sequence++);
         elements.add(newNode);
         int index = elements.size() - 1;
         elementsToIndex.put(element, index);
@@ -52,6 +60,27 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
         swim(index);
     }
 
+    /**
+     * {@inheritDoc} When adding at least as many elements as are already present, appends all the elements and
+     * restores the heap invariant bottom-up in linear time rather than sifting up each element individually.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        if (elementsAndPriorities.size() < size()) {
+            MinPQ.super.addAll(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            append(entry.getKey(), entry.getValue());
+        }
+        heapify();
+    }
+
     @Override
     public boolean contains(E element) {
         return elementsToIndex.containsKey(element);
@@ -93,21 +122,77 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
             throw new NoSuchElementException("PQ does not contain " + element);
         }
         int index = elementsToIndex.get(element);
-        double oldPriority = elements.get(index).getPriority();
+        int comparison = Double.compare(priority, elements.get(index).getPriority());
+        if (comparison == 0) {
+            return;
+        }
         elements.get(index).setPriority(priority);
+        elements.get(index).setSequence(sequence++);
 
-        if (priority < oldPriority) {
+        if (comparison < 0) {
             swim(index);
         } else {
             sink(index);
         }
     }
 
+    /**
+     * {@inheritDoc} When changing at least a quarter of the elements, updates every priority value in place and then
+     * restores the heap invariant bottom-up in linear time rather than sifting each element individually.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        int numChanges = elementsAndPriorities.size();
+        if (numChanges < size() / 4) {
+            MinPQ.super.changePriorities(elementsAndPriorities);
+            return;
+        }
+        List<PriorityNode<E>> nodes = new ArrayList<>(numChanges);
+        for (E element : elementsAndPriorities.keySet()) {
+            Integer index = elementsToIndex.get(element);
+            if (index == null) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+            nodes.add(elements.get(index));
+        }
+        int i = 0;
+        for (double priority : elementsAndPriorities.values()) {
+            PriorityNode<E> node = nodes.get(i);
+            if (Double.compare(priority, node.getPriority()) != 0) {
+                node.setPriority(priority);
+                node.setSequence(sequence++);
+            }
+            i += 1;
+        }
+        heapify();
+    }
+
     @Override
     public int size() {
         return elements.size() - 1;
     }
 
+    /**
+     * Appends the element-priority pair to the end of the heap without restoring the heap invariant.
+     *
+     * @param element  the element to append.
+     * @param priority the priority value for the element.
+     */
+    private void append(E element, double priority) {
+        elements.add(new PriorityNode<>(element, priority, sequence++));
+        elementsToIndex.put(element, elements.size() - 1);
+    }
+
+    /**
+     * Restores the heap invariant over the entire heap in linear time by sinking each internal node, starting from the
+     * last internal node and working back towards the root.
+     */
+    private void heapify() {
+        for (int k = size() / 2; k >= 1; k -= 1) {
+            sink(k);
+        }
+    }
+
     private void swim(int k) {
         while (k > 1 && greater(k / 2, k)) {
             exch(k / 2, k);
@@ -126,7 +211,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
     }
 
     private boolean greater(int i, int j) {
-        return elements.get(i).getPriority() > elements.get(j).getPriority();
+        return elements.get(j).precedes(elements.get(i));
     }
 
     private void exch(int i, int j) {
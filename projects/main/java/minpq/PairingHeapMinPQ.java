@@ -0,0 +1,282 @@
+package minpq;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Pairing heap implementation of the {@link MinPQ} interface. Adding an element takes constant time and removing the
+ * minimum takes amortized logarithmic time. Decreasing a priority value only cuts a subtree and links it back to the
+ * root, so it is very fast in practice, which suits decrease-key heavy workloads such as Dijkstra's algorithm on dense
+ * graphs. Unlike a Fibonacci heap, its amortized bound is not constant: decrease-key has an amortized lower bound of
+ * Omega(log log n), and the best known upper bound is O(2^(2 sqrt(log log n))).
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class PairingHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * The root of the pairing heap, or null if this priority queue is empty.
+     */
+    private Node<E> root;
+    /**
+     * {@link Map} of each element to its associated {@link Node} in the pairing heap.
+     */
+    private final Map<E, Node<E>> elementsToNode;
+    /**
+     * The sequence number for the next element-priority pair, used to break ties between equal priority values.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public PairingHeapMinPQ() {
+        root = null;
+        elementsToNode = new HashMap<>();
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public PairingHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        root = null;
+        elementsToNode = new HashMap<>(elementsAndPriorities.size());
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Node<E> node = new Node<>(element, priority, sequence++);
+        elementsToNode.put(element, node);
+        root = meld(root, node);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementsToNode.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Node<E> node = elementsToNode.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return node.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return root.element;
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        Node<E> min = root;
+        root = mergePairs(min.child);
+        elementsToNode.remove(min.element);
+        return min.element;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Node<E> node = elementsToNode.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        int comparison = Double.compare(priority, node.priority);
+        if (comparison == 0) {
+            return;
+        }
+        node.priority = priority;
+        node.sequence = sequence++;
+        if (comparison < 0) {
+            // Decrease-key: cut the subtree rooted at the node and meld it back with the root.
+            if (node != root) {
+                cut(node);
+                root = meld(root, node);
+            }
+        } else {
+            // Increase-key: detach the node from its children, then meld both back into the heap.
+            Node<E> children = mergePairs(node.child);
+            node.child = null;
+            if (node == root) {
+                root = children;
+            } else {
+                cut(node);
+                root = meld(root, children);
+            }
+            root = meld(root, node);
+        }
+    }
+
+    @Override
+    public int size() {
+        return elementsToNode.size();
+    }
+
+    /**
+     * Detaches the subtree rooted at the given non-root node from its parent or left sibling.
+     *
+     * @param node the node to detach.
+     */
+    private void cut(Node<E> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Returns the root of the heap formed by linking the two given heap roots. Either root may be null.
+     *
+     * @param a the root of the first heap.
+     * @param b the root of the second heap.
+     * @return the root of the linked heap.
+     */
+    private static <E> Node<E> meld(Node<E> a, Node<E> b) {
+        if (a == null) {
+            return b;
+        } else if (b == null) {
+            return a;
+        }
+        if (b.precedes(a)) {
+            Node<E> temp = a;
+            a = b;
+            b = temp;
+        }
+        // Make b the leftmost child of a.
+        b.prev = a;
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+        a.next = null;
+        a.prev = null;
+        return a;
+    }
+
+    /**
+     * Returns the root of the heap formed by the standard two-pass pairing of the given sibling list: a left-to-right
+     * pass links adjacent pairs, then a right-to-left pass links the results into a single heap.
+     *
+     * @param first the leftmost node in the sibling list, or null.
+     * @return the root of the resulting heap, or null if the list is empty.
+     */
+    private static <E> Node<E> mergePairs(Node<E> first) {
+        if (first == null) {
+            return null;
+        }
+        // Left-to-right pass: link pairs and chain the results in reverse order through the prev pointers.
+        Node<E> last = null;
+        Node<E> curr = first;
+        while (curr != null) {
+            Node<E> a = curr;
+            Node<E> b = curr.next;
+            if (b != null) {
+                curr = b.next;
+                a.next = null;
+                b.next = null;
+                a = meld(a, b);
+            } else {
+                curr = null;
+                a.next = null;
+            }
+            a.prev = last;
+            last = a;
+        }
+        // Right-to-left pass: link each pair result into the accumulated heap.
+        Node<E> result = last;
+        curr = last.prev;
+        result.prev = null;
+        while (curr != null) {
+            Node<E> prev = curr.prev;
+            curr.prev = null;
+            result = meld(curr, result);
+            curr = prev;
+        }
+        return result;
+    }
+
+    /**
+     * A pairing heap node in left-child, right-sibling representation.
+     *
+     * @param <T> the type of element in this node.
+     */
+    private static class Node<T> {
+        /**
+         * The element.
+         */
+        final T element;
+        /**
+         * The priority value of the element.
+         */
+        double priority;
+        /**
+         * The sequence number for breaking ties between equal priority values.
+         */
+        long sequence;
+        /**
+         * The leftmost child of this node.
+         */
+        Node<T> child;
+        /**
+         * The parent if this node is a leftmost child, or the left sibling otherwise.
+         */
+        Node<T> prev;
+        /**
+         * The right sibling of this node.
+         */
+        Node<T> next;
+
+        /**
+         * Constructs a new node with the given element, priority value, and sequence number.
+         *
+         * @param element  the element.
+         * @param priority the priority value of the element.
+         * @param sequence the sequence number for breaking ties.
+         */
+        Node(T element, double priority, long sequence) {
+            this.element = element;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Returns true if this node should be removed before the other node.
+         *
+         * @param other the other node.
+         * @return true if this node should be removed before the other node.
+         */
+        boolean precedes(Node<T> other) {
+            int result = Double.compare(priority, other.priority);
+            return result < 0 || (result == 0 && sequence < other.sequence);
+        }
+
+        @Override
+        public String toString() {
+            return "Node{element=" + element + ", priority=" + priority + '}';
+        }
+    }
+}
@@ -3,18 +3,21 @@ package minpq;
 import java.util.Objects;
 
 /**
- * Represents the element-priority pair for use in {@link MinPQ} implementations.
+ * Represents the element-priority pair for use in {@link MinPQ} implementations. Nodes are naturally ordered by
+ * priority value, breaking ties by sequence number, which is inconsistent with {@link #equals(Object)}.
  *
  * @param <E> the type of element represented by this node.
  * @see MinPQ
  */
-class PriorityNode<E> {
+class PriorityNode<E> implements Comparable<PriorityNode<E>> {
     private final E element;
     private double priority;
+    private long sequence;
 
-    public PriorityNode(E element, double priority) {
+    public PriorityNode(E element, double priority, long sequence) {
         this.element = element;
         this.priority = priority;
+        this.sequence = sequence;
     }
 
     public E getElement() {
@@ -29,11 +32,40 @@ class PriorityNode<E> {
         this.priority = priority;
     }
 
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns true if this node should be removed before the other node: either its priority value is lower, or the
+     * priority values are equal and this node was prioritized first.
+     *
+     * @param other the other node.
+     * @return true if this node should be removed before the other node.
+     */
+    public boolean precedes(PriorityNode<E> other) {
+        return compareTo(other) < 0;
+    }
+
+    @Override
+    public int compareTo(PriorityNode<E> other) {
+        int result = Double.compare(priority, other.priority);
+        if (result == 0) {
+            result = Long.compare(sequence, other.sequence);
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return "PriorityNode{" +
                 "element=" + element +
                 ", priority=" + priority +
+                ", sequence=" + sequence +
                 '}';
     }
 
@@ -0,0 +1,363 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Radix heap implementation of the {@link MinPQ} interface for <b>monotone</b> workloads. Priority values must be
+ * non-negative, and every added or changed priority value must be no less than the priority value of the most recently
+ * removed minimum element. Dijkstra's algorithm on graphs with non-negative edge weights satisfies this contract.
+ * <p>
+ * Elements are stored in 65 buckets keyed on the IEEE 754 bit pattern of their priority values, which orders the same
+ * as the values themselves for non-negative doubles. Bucket {@code i} holds elements whose bit pattern first differs
+ * from the last removed minimum at bit {@code i - 1}. Each element can only move to a lower bucket, so all operations
+ * take amortized near-constant time. Bucket 0 holds elements equal to the last removed minimum in the order they were
+ * added or last had their priority value changed, so ties are broken the same way as other {@link MinPQ}
+ * implementations.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class RadixHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * The number of buckets: one for elements equal to the last removed minimum and one per bit of a {@code long}.
+     */
+    private static final int NUM_BUCKETS = Long.SIZE + 1;
+    /**
+     * The buckets of {@link Node} objects. Bucket 0 is in ascending sequence order from {@code zeroHead} and may contain
+     * null placeholders for detached nodes; every other bucket is in no specific order.
+     */
+    private final List<List<Node<E>>> buckets;
+    /**
+     * {@link Map} of each element to its associated {@link Node} in the buckets.
+     */
+    private final Map<E, Node<E>> elementsToNode;
+    /**
+     * The bit pattern of the priority value of the most recently removed minimum element.
+     */
+    private long last;
+    /**
+     * The index of the first node in bucket 0, if bucket 0 is not empty.
+     */
+    private int zeroHead;
+    /**
+     * The number of nodes in bucket 0, excluding null placeholders.
+     */
+    private int zeroSize;
+    /**
+     * The sequence number for the next element-priority pair, used to break ties between equal priority values.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public RadixHeapMinPQ() {
+        buckets = new ArrayList<>(NUM_BUCKETS);
+        for (int i = 0; i < NUM_BUCKETS; i += 1) {
+            buckets.add(new ArrayList<>());
+        }
+        elementsToNode = new HashMap<>();
+        last = 0;
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public RadixHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the priority is negative, NaN, or less than the last removed minimum.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Node<E> node = new Node<>(element, priority, keyOf(priority), sequence++);
+        elementsToNode.put(element, node);
+        insert(node);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementsToNode.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Node<E> node = elementsToNode.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return node.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        if (zeroSize > 0) {
+            return buckets.get(0).get(zeroHead).element;
+        }
+        List<Node<E>> bucket = buckets.get(firstNonEmptyBucket());
+        return bucket.get(indexOfMin(bucket)).element;
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        if (buckets.get(0).isEmpty()) {
+            redistribute(firstNonEmptyBucket());
+        }
+        Node<E> min = buckets.get(0).get(zeroHead);
+        detach(min);
+        elementsToNode.remove(min.element);
+        return min.element;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the priority is negative, NaN, or less than the last removed minimum.
+     */
+    @Override
+    public void changePriority(E element, double priority) {
+        Node<E> node = elementsToNode.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        if (Double.compare(priority, node.priority) == 0) {
+            return;
+        }
+        long key = keyOf(priority);
+        detach(node);
+        node.priority = priority;
+        node.key = key;
+        node.sequence = sequence++;
+        insert(node);
+    }
+
+    @Override
+    public int size() {
+        return elementsToNode.size();
+    }
+
+    /**
+     * Returns the bit pattern used to order the given priority value, checking the monotonicity contract.
+     *
+     * @param priority the priority value.
+     * @return the bit pattern used to order the given priority value.
+     * @throws IllegalArgumentException if the priority is negative, NaN, or less than the last removed minimum.
+     */
+    private long keyOf(double priority) {
+        if (!(priority >= 0)) {
+            throw new IllegalArgumentException("Priority must be non-negative: " + priority);
+        }
+        // Adding 0.0 normalizes -0.0 to 0.0 so that its bit pattern is not negative.
+        long key = Double.doubleToLongBits(priority + 0.0);
+        if (key < last) {
+            throw new IllegalArgumentException("Priority " + priority + " is less than the last removed minimum "
+                    + Double.longBitsToDouble(last));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the bucket index for the given key relative to the last removed minimum.
+     *
+     * @param key the bit pattern of a priority value.
+     * @return the bucket index for the given key.
+     */
+    private int bucketOf(long key) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    /**
+     * Returns the index of the lowest non-empty bucket. Assumes this priority queue is not empty.
+     *
+     * @return the index of the lowest non-empty bucket.
+     */
+    private int firstNonEmptyBucket() {
+        int i = 0;
+        while (buckets.get(i).isEmpty()) {
+            i += 1;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the node with the minimum key and sequence number in the given non-empty bucket other than
+     * bucket 0.
+     *
+     * @param bucket the non-empty bucket.
+     * @return the index of the node with the minimum key and sequence number.
+     */
+    private static <E> int indexOfMin(List<Node<E>> bucket) {
+        int minIndex = 0;
+        for (int i = 1; i < bucket.size(); i += 1) {
+            Node<E> node = bucket.get(i);
+            Node<E> min = bucket.get(minIndex);
+            if (node.key < min.key || (node.key == min.key && node.sequence < min.sequence)) {
+                minIndex = i;
+            }
+        }
+        return minIndex;
+    }
+
+    /**
+     * Advances the last removed minimum to the minimum key in the given bucket and moves every node in that bucket to
+     * its new, strictly lower, bucket. Assumes bucket 0 is empty.
+     *
+     * @param i the index of the lowest non-empty bucket.
+     */
+    private void redistribute(int i) {
+        List<Node<E>> bucket = buckets.get(i);
+        last = bucket.get(indexOfMin(bucket)).key;
+        List<Node<E>> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        List<Node<E>> ties = new ArrayList<>();
+        for (Node<E> node : moving) {
+            if (node.key == last) {
+                ties.add(node);
+            } else {
+                insert(node);
+            }
+        }
+        // Nodes equal to the new minimum enter bucket 0 together, so sort them into sequence order.
+        ties.sort(Comparator.comparingLong(node -> node.sequence));
+        for (Node<E> node : ties) {
+            insert(node);
+        }
+    }
+
+    /**
+     * Appends the given node to the end of its bucket. A node entering bucket 0 must have a greater sequence number
+     * than every node already in bucket 0.
+     *
+     * @param node the node to insert.
+     */
+    private void insert(Node<E> node) {
+        node.bucket = bucketOf(node.key);
+        List<Node<E>> bucket = buckets.get(node.bucket);
+        node.index = bucket.size();
+        bucket.add(node);
+        if (node.bucket == 0) {
+            zeroSize += 1;
+        }
+    }
+
+    /**
+     * Removes the given node from its bucket. In bucket 0, replaces the node with a null placeholder to preserve the
+     * sequence order; in every other bucket, swaps the node with the last node in the bucket.
+     *
+     * @param node the node to detach.
+     */
+    private void detach(Node<E> node) {
+        List<Node<E>> bucket = buckets.get(node.bucket);
+        if (node.bucket == 0) {
+            bucket.set(node.index, null);
+            zeroSize -= 1;
+            if (zeroSize == 0) {
+                bucket.clear();
+                zeroHead = 0;
+            } else {
+                while (bucket.get(zeroHead) == null) {
+                    zeroHead += 1;
+                }
+                if (zeroHead > bucket.size() / 2) {
+                    compactZero();
+                }
+            }
+            return;
+        }
+        Node<E> lastNode = bucket.remove(bucket.size() - 1);
+        if (lastNode != node) {
+            bucket.set(node.index, lastNode);
+            lastNode.index = node.index;
+        }
+    }
+
+    /**
+     * Discards the null placeholders before {@code zeroHead} in bucket 0 and updates the indices of remaining nodes.
+     */
+    private void compactZero() {
+        List<Node<E>> bucket = buckets.get(0);
+        bucket.subList(0, zeroHead).clear();
+        zeroHead = 0;
+        for (int i = 0; i < bucket.size(); i += 1) {
+            Node<E> node = bucket.get(i);
+            if (node != null) {
+                node.index = i;
+            }
+        }
+    }
+
+    /**
+     * An element-priority pair along with its location in the buckets.
+     *
+     * @param <T> the type of element in this node.
+     */
+    private static class Node<T> {
+        /**
+         * The element.
+         */
+        final T element;
+        /**
+         * The priority value of the element.
+         */
+        double priority;
+        /**
+         * The bit pattern of the priority value of the element.
+         */
+        long key;
+        /**
+         * The sequence number for breaking ties between equal priority values.
+         */
+        long sequence;
+        /**
+         * The index of the bucket containing this node.
+         */
+        int bucket;
+        /**
+         * The index of this node within its bucket.
+         */
+        int index;
+
+        /**
+         * Constructs a new node with the given element, priority value, key, and sequence number.
+         *
+         * @param element  the element.
+         * @param priority the priority value of the element.
+         * @param key      the bit pattern of the priority value.
+         * @param sequence the sequence number for breaking ties.
+         */
+        Node(T element, double priority, long key, long sequence) {
+            this.element = element;
+            this.priority = priority;
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String toString() {
+            return "Node{element=" + element + ", priority=" + priority + '}';
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package minpq;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Static utilities for selecting the lowest-priority elements without constructing a full {@link MinPQ}.
+ *
+ * @see MinPQ
+ */
+public final class Selection {
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private Selection() {
+    }
+
+    /**
+     * Returns up to the given number of lowest-priority elements in ascending order of priority value. Runs in
+     * O(<i>n</i> log <i>k</i>) time where <i>n</i> is the number of given elements and <i>k</i> is the number of
+     * elements to select, but most elements are rejected with a single comparison, and only allocates space
+     * proportional to <i>k</i>. Ties between equal priority values are broken by the map's iteration order. The given
+     * map is not modified.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     * @param numElements           the desired number of lowest-priority elements.
+     * @param <E>                   the type of elements.
+     * @return a list containing up to the given number of lowest-priority elements.
+     */
+    public static <E> List<E> smallest(Map<E, Double> elementsAndPriorities, int numElements) {
+        BoundedMaxHeap<E> heap = new BoundedMaxHeap<>(Math.max(0, Math.min(numElements, elementsAndPriorities.size())));
+        long sequence = 0;
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            heap.offer(entry.getKey(), entry.getValue(), sequence++);
+        }
+        return heap.drainAscending();
+    }
+}
@@ -1,9 +1,6 @@
 package minpq;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.NoSuchElementException;
+import java.util.*;
 
 /**
  * Unsorted array (or {@link ArrayList}) implementation of the {@link MinPQ} interface.
@@ -16,6 +13,10 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
      * {@link List} of {@link PriorityNode} objects representing the element-priority pairs in no specific order.
      */
     private final List<PriorityNode<E>> elements;
+    /**
+     * The sequence number for the next element-priority pair, used to break ties between equal priority values.
+     */
+    private long sequence;
 
     /**
      * Constructs an empty instance.
@@ -31,8 +32,9 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
      */
     public UnsortedArrayMinPQ(Map<E, Double> elementsAndPriorities) {
         elements = new ArrayList<>(elementsAndPriorities.size());
+        // Map keys are already unique, so skip the linear containment check in add.
         for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+            elements.add(new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
         }
     }
 
@@ -41,7 +43,7 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         if (contains(element)) {
             throw new IllegalArgumentException("Already contains " + element);
         }
-        elements.add(new PriorityNode<>(element, priority));
+        elements.add(new PriorityNode<>(element, priority, sequence++));
     }
 
     @Override
@@ -71,7 +73,7 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         }
         PriorityNode<E> min = elements.get(0);
         for (PriorityNode<E> node : elements) {
-            if (node.getPriority() < min.getPriority()) {
+            if (node.precedes(min)) {
                 min = node;
             }
         }
@@ -85,13 +87,30 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         }
         int minimumIndex = 0;
         for (int i = 1; i < elements.size(); i++) {
-            if (elements.get(i).getPriority() < elements.get(minimumIndex).getPriority()) {
+            if (elements.get(i).precedes(elements.get(minimumIndex))) {
                 minimumIndex = i;
             }
         }
         return elements.remove(minimumIndex).getElement();
     }
 
+    /**
+     * {@inheritDoc} Selects the lowest-priority elements in a single pass with a bounded heap and then removes them all
+     * in a second pass, rather than scanning the entire array once per removed element.
+     */
+    @Override
+    public List<E> removeMin(int numElements) {
+        numElements = Math.max(0, Math.min(numElements, size()));
+        BoundedMaxHeap<E> heap = new BoundedMaxHeap<>(numElements);
+        for (PriorityNode<E> node : elements) {
+            heap.offer(node.getElement(), node.getPriority(), node.getSequence());
+        }
+        List<E> result = heap.drainAscending();
+        Set<E> removed = new HashSet<>(result);
+        elements.removeIf(node -> removed.contains(node.getElement()));
+        return result;
+    }
+
     @Override
     public void changePriority(E element, double priority) {
         boolean elementPresent = false;
@@ -99,7 +118,9 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         for (int i = 0; i < elements.size(); i++) {
             PriorityNode<E> node = elements.get(i);
             if (node.getElement().equals(element)) {
-                elements.set(i, new PriorityNode<>(element, priority));
+                if (Double.compare(priority, node.getPriority()) != 0) {
+                    elements.set(i, new PriorityNode<>(element, priority, sequence++));
+                }
                 elementPresent = true;
             }
         }
@@ -109,6 +130,31 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         }
     }
 
+    /**
+     * {@inheritDoc} Indexes every element in a single pass and then replaces each changed node directly, rather than
+     * scanning the entire array once per changed element.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        Map<E, Integer> elementsToIndex = new HashMap<>(elements.size());
+        for (int i = 0; i < elements.size(); i += 1) {
+            elementsToIndex.put(elements.get(i).getElement(), i);
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!elementsToIndex.containsKey(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            E element = entry.getKey();
+            double priority = entry.getValue();
+            int index = elementsToIndex.get(element);
+            if (Double.compare(priority, elements.get(index).getPriority()) != 0) {
+                elements.set(index, new PriorityNode<>(element, priority, sequence++));
+            }
+        }
+    }
+
     @Override
     public int size() {
         return elements.size();
@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.Test;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.distance.DistanceUtils;
+import org.locationtech.spatial4j.shape.Point;
+import org.locationtech.spatial4j.shape.ShapeFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the static geometry helpers of the {@link MapGraph} class, which do not need map data.
+ *
+ * @see MapGraph
+ */
+public class MapGraphTests {
+    private static final ShapeFactory FACTORY = SpatialContext.GEO.getShapeFactory();
+
+    @Test
+    void convexHullOfSquareSkipsInteriorPoint() {
+        List<Point> hull = MapGraph.convexHull(List.of(point(1, 1), point(0.5, 0.5), point(0, 1), point(1, 0),
+                point(0, 0)));
+        assertEquals(List.of(List.of(0.0, 0.0), List.of(1.0, 0.0), List.of(1.0, 1.0), List.of(0.0, 1.0)),
+                coordinates(hull));
+    }
+
+    @Test
+    void convexHullOfCollinearPointsIsTheirEndpoints() {
+        List<Point> hull = MapGraph.convexHull(List.of(point(2, 2), point(0, 0), point(3, 3), point(1, 1)));
+        assertEquals(List.of(List.of(0.0, 0.0), List.of(3.0, 3.0)), coordinates(hull));
+    }
+
+    @Test
+    void convexHullCountsCoincidentPointsOnce() {
+        assertEquals(List.of(List.of(0.0, 0.0)),
+                coordinates(MapGraph.convexHull(List.of(point(0, 0), point(0, 0), point(0, 0)))));
+        List<Point> hull = MapGraph.convexHull(List.of(point(0, 0), point(1, 0), point(1, 0), point(1, 1),
+                point(0, 1), point(0, 1), point(0, 0)));
+        assertEquals(List.of(List.of(0.0, 0.0), List.of(1.0, 0.0), List.of(1.0, 1.0), List.of(0.0, 1.0)),
+                coordinates(hull));
+    }
+
+    @Test
+    void convexHullOfFewerThanThreePointsReturnsThemSorted() {
+        assertEquals(List.of(), MapGraph.convexHull(List.of()));
+        assertEquals(List.of(List.of(2.0, 3.0)), coordinates(MapGraph.convexHull(List.of(point(2, 3)))));
+        assertEquals(List.of(List.of(-1.0, 5.0), List.of(2.0, 3.0)),
+                coordinates(MapGraph.convexHull(List.of(point(2, 3), point(-1, 5)))));
+    }
+
+    @Test
+    void metersToDegreesUsesTheEarthMeanRadius() {
+        assertEquals(0.0, MapGraph.metersToDegrees(0));
+        assertEquals(1.0, MapGraph.metersToDegrees(1000 * DistanceUtils.DEG_TO_KM), 1e-12);
+        // One degree of arc along a great circle is about 111.2 kilometers.
+        assertEquals(1.0, MapGraph.metersToDegrees(111_195), 1e-5);
+        assertEquals(0.09, MapGraph.metersToDegrees(10_000), 1e-3);
+    }
+
+    /**
+     * Returns a point with the given longitude and latitude.
+     *
+     * @param lon the longitude.
+     * @param lat the latitude.
+     * @return a point with the given longitude and latitude.
+     */
+    private static Point point(double lon, double lat) {
+        return FACTORY.pointLatLon(lat, lon);
+    }
+
+    /**
+     * Returns the longitude and latitude of each of the given points.
+     *
+     * @param points the points.
+     * @return a list of longitude and latitude pairs in the same order as the points.
+     */
+    private static List<List<Double>> coordinates(List<Point> points) {
+        List<List<Double>> result = new ArrayList<>();
+        for (Point p : points) {
+            result.add(List.of(p.getLon(), p.getLat()));
+        }
+        return result;
+    }
+}
@@ -1,5 +1,13 @@
 package deques;
 
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Tests for the {@link ArrayDeque} class.
  *
@@ -12,4 +20,88 @@ public class ArrayDequeTests extends DequeTests {
     }
 
     // You may write additional tests here if you only want them to run for ArrayDeque
+
+    @Test
+    void spliteratorSplitsAcrossWrapAroundEvenly() {
+        Deque<Integer> deque = createDeque();
+        for (int i = 0; i < 10; i += 1) {
+            deque.addFirst(-i - 1);
+            deque.addLast(i);
+        }
+        Spliterator<Integer> suffix = deque.spliterator();
+        assertEquals(20, suffix.getExactSizeIfKnown());
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertEquals(10, prefix.getExactSizeIfKnown());
+        assertEquals(10, suffix.getExactSizeIfKnown());
+        List<Integer> elements = new ArrayList<>();
+        prefix.forEachRemaining(elements::add);
+        assertTrue(suffix.tryAdvance(elements::add));
+        suffix.forEachRemaining(elements::add);
+        for (int i = 0; i < 20; i += 1) {
+            assertEquals(i - 10, elements.get(i));
+        }
+    }
+
+    @Test
+    void oscillatingAroundCapacityBoundaryResizesOnce() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < 8; i += 1) {
+            deque.addLast(i);
+        }
+        assertEquals(0, deque.resizeCount());
+        for (int i = 0; i < 1000; i += 1) {
+            deque.addLast(i);
+            deque.removeLast();
+        }
+        assertEquals(1, deque.resizeCount());
+        assertEquals(8, deque.copiedElementCount());
+    }
+
+    @Test
+    void ensureCapacityAndTrimToSizeFollowPolicy() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(new ResizePolicy(4, 0.0, 4));
+        assertEquals(4, deque.capacity());
+        for (int i = 0; i < 5; i += 1) {
+            deque.addFirst(i);
+        }
+        assertEquals(16, deque.capacity());
+        deque.ensureCapacity(100);
+        assertEquals(128, deque.capacity());
+        for (int i = 0; i < 5; i += 1) {
+            deque.removeLast();
+        }
+        assertEquals(128, deque.capacity());
+        deque.addLast(7);
+        deque.trimToSize();
+        assertEquals(4, deque.capacity());
+        assertEquals(7, deque.get(0));
+        assertEquals(3, deque.resizeCount());
+    }
+
+    @Test
+    void shrinkingLeavesRoomToGrowByTheGrowFactor() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(new ResizePolicy(4, 0.125, 4));
+        for (int i = 0; i < 100; i += 1) {
+            deque.addLast(i);
+        }
+        assertEquals(256, deque.capacity());
+        while (deque.size() > 31) {
+            deque.removeFirst();
+        }
+        assertEquals(128, deque.capacity());
+        long resizes = deque.resizeCount();
+        for (int i = 0; i < 128 - 31; i += 1) {
+            deque.addLast(i);
+        }
+        assertEquals(resizes, deque.resizeCount());
+    }
+
+    @Test
+    void resizePolicyWithoutHysteresisThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ResizePolicy(2, 0.5, 8));
+        assertThrows(IllegalArgumentException.class, () -> new ResizePolicy(2, 0.49, 8));
+        assertThrows(IllegalArgumentException.class, () -> new ResizePolicy(4, 0.2, 8));
+        assertThrows(IllegalArgumentException.class, () -> new ResizePolicy(3, 0.25, 8));
+        assertThrows(IllegalArgumentException.class, () -> new ResizePolicy(2, 0.25, 6));
+    }
 }
@@ -0,0 +1,80 @@
+package deques;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BoundedDeque} class. The inherited tests use a capacity large enough that the overflow policy
+ * never applies.
+ *
+ * @see BoundedDeque
+ */
+public class BoundedDequeTests extends DequeTests {
+    @Override
+    public <E> Deque<E> createDeque() {
+        return new BoundedDeque<>(1024);
+    }
+
+    @Test
+    void addLastWhenFullEvictsFirst() {
+        BoundedDeque<Integer> deque = new BoundedDeque<>(3, BoundedDeque.OverflowPolicy.EVICT_OLDEST);
+        for (int i = 0; i < 5; i += 1) {
+            deque.addLast(i);
+        }
+        assertEquals("[2, 3, 4]", deque.toString());
+        deque.addFirst(1);
+        assertEquals("[1, 2, 3]", deque.toString());
+        assertEquals(3, deque.size());
+        assertEquals(3, deque.evictions());
+    }
+
+    @Test
+    void addWhenFullWithRejectThrowsException() {
+        BoundedDeque<Integer> deque = new BoundedDeque<>(2, BoundedDeque.OverflowPolicy.REJECT);
+        deque.addLast(1);
+        deque.addFirst(0);
+        assertThrows(IllegalStateException.class, () -> deque.addLast(2));
+        assertThrows(IllegalStateException.class, () -> deque.addFirst(2));
+        assertEquals("[0, 1]", deque.toString());
+        assertEquals(1, deque.removeLast());
+        deque.addLast(2);
+        assertEquals("[0, 2]", deque.toString());
+    }
+
+    @Test
+    void addWhenFullWithBlockTimesOut() {
+        BoundedDeque<Integer> deque = new BoundedDeque<>(1, BoundedDeque.OverflowPolicy.BLOCK, 10, TimeUnit.MILLISECONDS);
+        deque.addLast(1);
+        assertThrows(IllegalStateException.class, () -> deque.addLast(2));
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    void addWhenFullWithBlockWaitsForRemove() throws Exception {
+        BoundedDeque<Integer> deque = new BoundedDeque<>(4, BoundedDeque.OverflowPolicy.BLOCK, 60, TimeUnit.SECONDS);
+        int n = 10000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < n; i += 1) {
+                    deque.addLast(i);
+                }
+            });
+            for (int i = 0; i < n; i += 1) {
+                Integer element = deque.removeFirst();
+                while (element == null) {
+                    Thread.yield();
+                    element = deque.removeFirst();
+                }
+                assertEquals(i, element);
+            }
+            producer.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, deque.size());
+    }
+}
@@ -0,0 +1,46 @@
+package deques;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChunkedLinkedDeque} class.
+ *
+ * @see ChunkedLinkedDeque
+ */
+public class ChunkedLinkedDequeTests extends DequeTests {
+    @Override
+    public <E> Deque<E> createDeque() {
+        return new ChunkedLinkedDeque<>();
+    }
+
+    @Test
+    void randomOperationsAcrossManyBlocksMatchReference() {
+        Deque<Integer> deque = createDeque();
+        java.util.Deque<Integer> reference = new java.util.ArrayDeque<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 100000; i += 1) {
+            // Bias towards adding for the first half and removing for the second so that blocks are linked and unlinked.
+            boolean add = random.nextInt(10) < (i < 50000 ? 6 : 4);
+            if (add && random.nextBoolean()) {
+                deque.addFirst(i);
+                reference.addFirst(i);
+            } else if (add) {
+                deque.addLast(i);
+                reference.addLast(i);
+            } else if (random.nextBoolean()) {
+                assertEquals(reference.pollFirst(), deque.removeFirst());
+            } else {
+                assertEquals(reference.pollLast(), deque.removeLast());
+            }
+            assertEquals(reference.size(), deque.size());
+            if (i % 1000 == 0 && !reference.isEmpty()) {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.stream().skip(index).findFirst().orElseThrow(), deque.get(index));
+            }
+        }
+    }
+}
@@ -4,6 +4,12 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -299,6 +305,80 @@ public abstract class DequeTests {
         assertEquals(5, deque.removeFirst());
     }
 
+    @Test
+    void removeFirstManyAfterAddAllLastReturnsElementsInOrder() {
+        Deque<Integer> deque = createDeque();
+        // Add to the front first so that the elements wrap around in array-based deques.
+        for (int i = 4; i >= 0; i -= 1) {
+            deque.addFirst(i);
+        }
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 5; i < 100; i += 1) {
+            elements.add(i);
+        }
+        deque.addAllLast(elements);
+        assertEquals(100, deque.size());
+        assertEquals(List.of(0, 1, 2), deque.removeFirst(3));
+        for (int i = 0; i < 97; i += 1) {
+            assertEquals(i + 3, deque.get(i));
+        }
+        assertEquals(97, deque.removeFirst(200).size());
+        assertTrue(deque.isEmpty());
+        assertEquals(List.of(), deque.removeFirst(1));
+    }
+
+    @Test
+    void drainToAddsUpToGivenNumberOfElements() {
+        Deque<Integer> deque = createDeque();
+        for (int i = 0; i < 50; i += 1) {
+            deque.addLast(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(0, deque.drainTo(drained, 0));
+        assertEquals(40, deque.drainTo(drained, 40));
+        assertEquals(10, deque.size());
+        assertEquals(40, deque.get(0));
+        assertEquals(10, deque.drainTo(drained, 40));
+        assertEquals(50, drained.size());
+        for (int i = 0; i < 50; i += 1) {
+            assertEquals(i, drained.get(i));
+        }
+        assertNull(deque.removeFirst());
+    }
+
+    @Test
+    void iteratorReturnsElementsFromFrontToBack() {
+        Deque<Integer> deque = createDeque();
+        for (int i = 0; i < 100; i += 1) {
+            deque.addFirst(-i - 1);
+            deque.addLast(i);
+        }
+        int expected = -100;
+        for (int element : deque) {
+            assertEquals(expected, element);
+            expected += 1;
+        }
+        assertEquals(100, expected);
+        Iterator<Integer> iter = this.<Integer>createDeque().iterator();
+        assertFalse(iter.hasNext());
+        assertThrows(NoSuchElementException.class, iter::next);
+    }
+
+    @Test
+    void parallelStreamPreservesOrder() {
+        Deque<Integer> deque = createDeque();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i += 1) {
+            deque.addFirst(-i - 1);
+            deque.addLast(i);
+        }
+        for (int i = -500; i < 500; i += 1) {
+            expected.add(i);
+        }
+        assertEquals(expected, deque.parallelStream().collect(Collectors.toList()));
+        assertEquals(expected.size(), deque.stream().count());
+    }
+
     @Disabled
     @Nested
     class RuntimeExperiments {
@@ -0,0 +1,58 @@
+package deques;
+
+/**
+ * Tests for the {@link DoubleDeque} class.
+ *
+ * @see DoubleDeque
+ */
+public class DoubleDequeTests extends PrimitiveDequeTests<DoubleDeque> {
+    @Override
+    public DoubleDeque createDeque() {
+        return new DoubleDeque();
+    }
+
+    @Override
+    public DoubleDeque createDeque(ResizePolicy policy) {
+        return new DoubleDeque(policy);
+    }
+
+    @Override
+    public void addFirst(DoubleDeque deque, int value) {
+        deque.addFirst(value);
+    }
+
+    @Override
+    public void addLast(DoubleDeque deque, int value) {
+        deque.addLast(value);
+    }
+
+    @Override
+    public int removeFirst(DoubleDeque deque) {
+        return (int) deque.removeFirst();
+    }
+
+    @Override
+    public int removeLast(DoubleDeque deque) {
+        return (int) deque.removeLast();
+    }
+
+    @Override
+    public int get(DoubleDeque deque, int index) {
+        return (int) deque.get(index);
+    }
+
+    @Override
+    public int size(DoubleDeque deque) {
+        return deque.size();
+    }
+
+    @Override
+    public void clear(DoubleDeque deque) {
+        deque.clear();
+    }
+
+    @Override
+    public int capacity(DoubleDeque deque) {
+        return deque.capacity();
+    }
+}
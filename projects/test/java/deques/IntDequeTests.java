@@ -0,0 +1,58 @@
+package deques;
+
+/**
+ * Tests for the {@link IntDeque} class.
+ *
+ * @see IntDeque
+ */
+public class IntDequeTests extends PrimitiveDequeTests<IntDeque> {
+    @Override
+    public IntDeque createDeque() {
+        return new IntDeque();
+    }
+
+    @Override
+    public IntDeque createDeque(ResizePolicy policy) {
+        return new IntDeque(policy);
+    }
+
+    @Override
+    public void addFirst(IntDeque deque, int value) {
+        deque.addFirst(value);
+    }
+
+    @Override
+    public void addLast(IntDeque deque, int value) {
+        deque.addLast(value);
+    }
+
+    @Override
+    public int removeFirst(IntDeque deque) {
+        return deque.removeFirst();
+    }
+
+    @Override
+    public int removeLast(IntDeque deque) {
+        return deque.removeLast();
+    }
+
+    @Override
+    public int get(IntDeque deque, int index) {
+        return deque.get(index);
+    }
+
+    @Override
+    public int size(IntDeque deque) {
+        return deque.size();
+    }
+
+    @Override
+    public void clear(IntDeque deque) {
+        deque.clear();
+    }
+
+    @Override
+    public int capacity(IntDeque deque) {
+        return deque.capacity();
+    }
+}
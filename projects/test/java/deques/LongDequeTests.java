@@ -0,0 +1,58 @@
+package deques;
+
+/**
+ * Tests for the {@link LongDeque} class.
+ *
+ * @see LongDeque
+ */
+public class LongDequeTests extends PrimitiveDequeTests<LongDeque> {
+    @Override
+    public LongDeque createDeque() {
+        return new LongDeque();
+    }
+
+    @Override
+    public LongDeque createDeque(ResizePolicy policy) {
+        return new LongDeque(policy);
+    }
+
+    @Override
+    public void addFirst(LongDeque deque, int value) {
+        deque.addFirst(value);
+    }
+
+    @Override
+    public void addLast(LongDeque deque, int value) {
+        deque.addLast(value);
+    }
+
+    @Override
+    public int removeFirst(LongDeque deque) {
+        return (int) deque.removeFirst();
+    }
+
+    @Override
+    public int removeLast(LongDeque deque) {
+        return (int) deque.removeLast();
+    }
+
+    @Override
+    public int get(LongDeque deque, int index) {
+        return (int) deque.get(index);
+    }
+
+    @Override
+    public int size(LongDeque deque) {
+        return deque.size();
+    }
+
+    @Override
+    public void clear(LongDeque deque) {
+        deque.clear();
+    }
+
+    @Override
+    public int capacity(LongDeque deque) {
+        return deque.capacity();
+    }
+}
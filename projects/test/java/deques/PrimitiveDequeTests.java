@@ -0,0 +1,189 @@
+package deques;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abstract class providing test cases derived from {@link DequeTests} for the primitive deques. Each
+ * subclass adapts its deque to these {@code int}-valued operations.
+ *
+ * @param <D> the type of primitive deque
+ * @see IntDeque
+ * @see LongDeque
+ * @see DoubleDeque
+ */
+public abstract class PrimitiveDequeTests<D> {
+    /**
+     * Returns an empty primitive deque.
+     *
+     * @return an empty primitive deque
+     */
+    public abstract D createDeque();
+
+    /**
+     * Returns an empty primitive deque with the given resize policy.
+     *
+     * @param policy the rules for growing and shrinking the underlying array
+     * @return an empty primitive deque
+     */
+    public abstract D createDeque(ResizePolicy policy);
+
+    // Adapters from each primitive deque operation to int values, which every primitive type can represent exactly.
+
+    public abstract void addFirst(D deque, int value);
+
+    public abstract void addLast(D deque, int value);
+
+    public abstract int removeFirst(D deque);
+
+    public abstract int removeLast(D deque);
+
+    public abstract int get(D deque, int index);
+
+    public abstract int size(D deque);
+
+    public abstract void clear(D deque);
+
+    public abstract int capacity(D deque);
+
+    @Test
+    void sizeWhenEmptyIsZero() {
+        D deque = createDeque();
+        assertEquals(0, size(deque));
+    }
+
+    @Test
+    void getWhenEmptyThrowsException() {
+        D deque = createDeque();
+        assertThrows(IndexOutOfBoundsException.class, () -> get(deque, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> get(deque, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> get(deque, 1));
+    }
+
+    @Test
+    void removeWhenEmptyThrowsException() {
+        D deque = createDeque();
+        assertThrows(NoSuchElementException.class, () -> removeFirst(deque));
+        assertThrows(NoSuchElementException.class, () -> removeLast(deque));
+    }
+
+    @Test
+    void usingMultipleDequesSimultaneouslyDoesNotCauseInterference() {
+        D d1 = createDeque();
+        D d2 = createDeque();
+        addFirst(d1, 1);
+        addFirst(d2, 2);
+        addFirst(d1, 3);
+        assertEquals(2, size(d1));
+        assertEquals(1, size(d2));
+    }
+
+    @Test
+    void removeAfterAddOneElementToOppositeSideReturnsElement() {
+        D deque = createDeque();
+        addFirst(deque, 1);
+        assertEquals(1, removeLast(deque));
+        addLast(deque, 2);
+        assertEquals(2, removeFirst(deque));
+        assertEquals(0, size(deque));
+    }
+
+    @Test
+    void getEachAfterAddToOppositeEndsReturnsCorrectElements() {
+        D deque = createDeque();
+        addFirst(deque, 1);
+        addLast(deque, 2);
+        assertEquals(1, get(deque, 0));
+        assertEquals(2, get(deque, 1));
+        assertEquals(2, size(deque));
+    }
+
+    @Test
+    void getEachAfterAddManyToSameSideReturnsCorrectElements() {
+        int numElements = 20;
+        D deque = createDeque();
+        for (int i = 0; i < numElements; i += 1) {
+            addLast(deque, i);
+        }
+        for (int i = 0; i < numElements; i += 1) {
+            assertEquals(i, get(deque, i));
+        }
+        assertEquals(numElements, size(deque));
+    }
+
+    @Test
+    void confusingTest() {
+        D deque = createDeque();
+        for (int i = 0; i < 100; i += 1) {
+            addFirst(deque, -i - 1);
+            addLast(deque, i);
+        }
+        for (int i = 0; i < 200; i += 1) {
+            assertEquals(i - 100, get(deque, i));
+        }
+        // Remove from alternating ends so that the deque shrinks across the wrap-around point.
+        for (int i = 0; i < 95; i += 1) {
+            assertEquals(-100 + i, removeFirst(deque));
+            assertEquals(99 - i, removeLast(deque));
+        }
+        assertEquals(10, size(deque));
+        for (int i = 0; i < 10; i += 1) {
+            assertEquals(i - 5, get(deque, i));
+        }
+    }
+
+    @Test
+    void clearRemovesAllElements() {
+        D deque = createDeque();
+        for (int i = 0; i < 50; i += 1) {
+            addLast(deque, i);
+        }
+        clear(deque);
+        assertEquals(0, size(deque));
+        addFirst(deque, 7);
+        addLast(deque, 8);
+        assertEquals(7, get(deque, 0));
+        assertEquals(8, get(deque, 1));
+    }
+
+    @Test
+    void clearKeepsTheUnderlyingArray() {
+        D deque = createDeque();
+        for (int i = 0; i < 50; i += 1) {
+            addLast(deque, i);
+        }
+        int capacity = capacity(deque);
+        clear(deque);
+        assertEquals(capacity, capacity(deque));
+    }
+
+    @Test
+    void drainingDoesNotShrinkByDefault() {
+        D deque = createDeque();
+        for (int round = 0; round < 3; round += 1) {
+            for (int i = 0; i < 1000; i += 1) {
+                addLast(deque, i);
+            }
+            int capacity = capacity(deque);
+            for (int i = 0; i < 1000; i += 1) {
+                assertEquals(i, removeFirst(deque));
+            }
+            assertEquals(capacity, capacity(deque));
+        }
+    }
+
+    @Test
+    void drainingShrinksWithShrinkingPolicy() {
+        D deque = createDeque(ResizePolicy.DEFAULT);
+        for (int i = 0; i < 1000; i += 1) {
+            addLast(deque, i);
+        }
+        for (int i = 0; i < 1000; i += 1) {
+            assertEquals(999 - i, removeLast(deque));
+        }
+        assertEquals(ResizePolicy.DEFAULT.minCapacity(), capacity(deque));
+    }
+}
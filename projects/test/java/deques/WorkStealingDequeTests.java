@@ -0,0 +1,173 @@
+package deques;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link WorkStealingDeque} class. The inherited tests run entirely on the owner thread; the stress
+ * test below has thieves steal from the front while the owner adds and removes elements.
+ *
+ * @see WorkStealingDeque
+ */
+public class WorkStealingDequeTests extends DequeTests {
+    /**
+     * Number of thief threads for the stress test.
+     */
+    private static final int NUM_THIEVES = 3;
+
+    @Override
+    public <E> Deque<E> createDeque() {
+        return new WorkStealingDeque<>();
+    }
+
+    @Test
+    void stealWhenEmptyReturnsNull() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        assertNull(deque.steal());
+        deque.addLast(1);
+        deque.addFirst(0);
+        assertEquals(0, deque.steal());
+        assertEquals(1, deque.steal());
+        assertNull(deque.steal());
+        assertEquals(0, deque.size());
+    }
+
+    @Test
+    void concurrentThievesTakeEveryElementOnce() throws Exception {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        int total = 200000;
+        ConcurrentMap<Integer, Boolean> taken = new ConcurrentHashMap<>();
+        AtomicInteger numTaken = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(1 + NUM_THIEVES);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < total; i += 1) {
+                    // Alternate ends so that thieves race both the owner's adds and its removes.
+                    if (i % 3 == 0) {
+                        deque.addFirst(i);
+                    } else {
+                        deque.addLast(i);
+                    }
+                    if (i % 4 == 0) {
+                        Integer element = deque.removeLast();
+                        if (element != null) {
+                            assertNull(taken.put(element, true), () -> "Taken twice: " + element);
+                            numTaken.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+            for (int t = 0; t < NUM_THIEVES; t += 1) {
+                futures.add(executor.submit(() -> {
+                    while (numTaken.get() < total) {
+                        Integer element = deque.steal();
+                        if (element != null) {
+                            assertNull(taken.put(element, true), () -> "Taken twice: " + element);
+                            numTaken.incrementAndGet();
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(total, taken.size());
+        assertEquals(0, deque.size());
+    }
+
+    @Test
+    void ownerReaddingStolenElementToFrontDoesNotLoseIt() throws Exception {
+        WorkStealingDeque<Object> deque = new WorkStealingDeque<>();
+        // Every element is the same object, so a thief clearing a reused slot would erase a live element.
+        Object token = new Object();
+        int total = 200000;
+        AtomicInteger numTaken = new AtomicInteger();
+        AtomicInteger numAdded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(1 + NUM_THIEVES);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < total; i += 1) {
+                    deque.addFirst(token);
+                    numAdded.incrementAndGet();
+                }
+            }));
+            for (int t = 0; t < NUM_THIEVES; t += 1) {
+                futures.add(executor.submit(() -> {
+                    while (numAdded.get() < total || deque.size() > 0) {
+                        Object element = deque.steal();
+                        if (element == token) {
+                            numTaken.incrementAndGet();
+                        } else if (element != null) {
+                            fail("Unexpected element: " + element);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(total, numTaken.get());
+    }
+
+    @Test
+    void ownerWrappingBackOntoUnclearedSlotDoesNotLoseElement() throws Exception {
+        // Replays a thief that advanced the front past slot 0 but was descheduled before clearing it. The interleaving
+        // is too narrow to hit reliably from real threads, so the thief's two steps are done through reflection.
+        WorkStealingDeque<Object> deque = new WorkStealingDeque<>();
+        Object token = new Object();
+        for (int i = 0; i < 15; i += 1) {
+            deque.addLast(token);
+        }
+        AtomicLong front = (AtomicLong) field("front").get(deque);
+        @SuppressWarnings("unchecked")
+        AtomicReferenceArray<Object> data = (AtomicReferenceArray<Object>) field("data").get(deque);
+        long word = front.get();
+        assertTrue(front.compareAndSet(word, (((word >>> 32) + 1) << 32) | 1));
+        // Other thieves take and clear the next two elements, making room for the back to wrap onto slot 0.
+        assertSame(token, deque.steal());
+        assertSame(token, deque.steal());
+        deque.addLast(token);
+        deque.addLast(token);
+        // The first thief finally clears the slot it took.
+        data.compareAndSet(0, token, null);
+        assertEquals(14, deque.size());
+        int numTaken = 0;
+        while (deque.steal() == token) {
+            numTaken += 1;
+        }
+        assertEquals(14, numTaken);
+        assertEquals(0, deque.size());
+    }
+
+    /**
+     * Returns the given private field of {@link WorkStealingDeque}, made accessible.
+     *
+     * @param name the name of the field
+     * @return the accessible field
+     * @throws NoSuchFieldException if the field does not exist
+     */
+    private static Field field(String name) throws NoSuchFieldException {
+        Field result = WorkStealingDeque.class.getDeclaredField(name);
+        result.setAccessible(true);
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static graphs.shortestpaths.Paths.cost;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DeltaSteppingSolver} class against {@link DijkstraSolver} on random graphs.
+ *
+ * @see DeltaSteppingSolver
+ */
+public class DeltaSteppingSolverTests {
+    /**
+     * Returns a random graph with the given number of vertices and three edges per vertex on average, a quarter of
+     * them with zero weight, most of the rest light, and a few heavy. Some vertices are unreachable from vertex 0.
+     *
+     * @param n      the number of vertices.
+     * @param random the source of randomness.
+     * @return a random graph on the vertices from 0 to n - 1.
+     */
+    private static Graph<Integer> randomGraph(int n, Random random) {
+        List<List<Edge<Integer>>> neighbors = new ArrayList<>();
+        for (int i = 0; i < n; i += 1) {
+            neighbors.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 3 * n; i += 1) {
+            int from = random.nextInt(n);
+            int to = random.nextInt(n);
+            int kind = random.nextInt(8);
+            double weight = kind < 2 ? 0.0 : kind < 7 ? random.nextInt(10) : 100 + random.nextInt(1000);
+            neighbors.get(from).add(new Edge<>(from, to, weight));
+        }
+        return neighbors::get;
+    }
+
+    /**
+     * Asserts that the given solver finds paths as short as Dijkstra's algorithm to every vertex, and no path to the
+     * vertices that Dijkstra's algorithm cannot reach.
+     *
+     * @param graph  the input graph.
+     * @param n      the number of vertices.
+     * @param solver the solver that already ran on the graph from vertex 0.
+     */
+    private static void assertMatchesDijkstra(Graph<Integer> graph, int n, ShortestPathSolver<Integer> solver) {
+        DijkstraSolver<Integer> expected = new DijkstraSolver<>(graph, 0);
+        for (int v = 0; v < n; v += 1) {
+            List<Integer> path = expected.solution(v);
+            List<Integer> actual = solver.solution(v);
+            if (path.get(0) == 0) {
+                assertEquals(0, actual.get(0), "vertex " + v);
+                assertEquals(v, actual.get(actual.size() - 1), "vertex " + v);
+                assertEquals(cost(graph, path), cost(graph, actual), 1e-9, "vertex " + v);
+            } else {
+                assertEquals(List.of(v), actual, "vertex " + v);
+            }
+        }
+    }
+
+    @Test
+    void sampledDeltaMatchesDijkstraSolver() {
+        Random random = new Random(373);
+        for (int n : new int[]{1, 10, 1000, 20000}) {
+            Graph<Integer> graph = randomGraph(n, random);
+            assertMatchesDijkstra(graph, n, new DeltaSteppingSolver<>(graph, 0));
+        }
+    }
+
+    @Test
+    void tinyDeltaMovesVerticesBetweenBucketsAndMatchesDijkstraSolver() {
+        Random random = new Random(373);
+        int n = 5000;
+        Graph<Integer> graph = randomGraph(n, random);
+        // Every positive edge is heavy, and every improvement moves its target to another bucket.
+        assertMatchesDijkstra(graph, n, new DeltaSteppingSolver<>(graph, 0, 1e-3));
+    }
+
+    @Test
+    void hugeDeltaRelaxesLargeFrontiersInParallelAndMatchesDijkstraSolver() {
+        Random random = new Random(373);
+        int n = 20000;
+        Graph<Integer> graph = randomGraph(n, random);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Every edge is light and every vertex lands in the first bucket, so frontiers are large.
+            assertMatchesDijkstra(graph, n, new DeltaSteppingSolver<>(graph, 0, 1e9, pool));
+            assertMatchesDijkstra(graph, n, new DeltaSteppingSolver<>(graph, 0, 5.0, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void nonPositiveDeltaThrowsException() {
+        Graph<Integer> graph = v -> List.of();
+        assertThrows(IllegalArgumentException.class, () -> new DeltaSteppingSolver<>(graph, 0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new DeltaSteppingSolver<>(graph, 0, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> new DeltaSteppingSolver<>(graph, 0, Double.NaN));
+    }
+}
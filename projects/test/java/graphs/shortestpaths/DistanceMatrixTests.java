@@ -0,0 +1,94 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static graphs.shortestpaths.Paths.cost;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DistanceMatrix} class.
+ *
+ * @see DistanceMatrix
+ */
+public class DistanceMatrixTests {
+    @Test
+    void distancesMatchDijkstraSolver() {
+        Random random = new Random(373);
+        int n = 2000;
+        List<List<Edge<Integer>>> neighbors = new ArrayList<>();
+        for (int i = 0; i < n; i += 1) {
+            neighbors.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 3 * n; i += 1) {
+            int from = random.nextInt(n);
+            int to = random.nextInt(n);
+            neighbors.get(from).add(new Edge<>(from, to, random.nextInt(100)));
+        }
+        Graph<Integer> graph = neighbors::get;
+        List<Integer> sources = List.of(0, 17, 999, 17);
+        List<Integer> targets = List.of(5, 0, 1234, 1999, 42, 5);
+        DistanceMatrix<Integer> matrix = new DistanceMatrix<>(graph, sources, targets);
+        assertEquals(sources.size(), matrix.distances().length);
+        for (int i = 0; i < sources.size(); i += 1) {
+            DijkstraSolver<Integer> solver = new DijkstraSolver<>(graph, sources.get(i));
+            assertEquals(targets.size(), matrix.distances()[i].length);
+            for (int j = 0; j < targets.size(); j += 1) {
+                List<Integer> expected = solver.solution(targets.get(j));
+                if (expected.get(0).equals(sources.get(i))) {
+                    assertEquals(cost(graph, expected), matrix.distance(i, j), 1e-9);
+                    assertEquals(cost(graph, expected), cost(graph, matrix.path(i, j)), 1e-9);
+                } else {
+                    assertEquals(Double.POSITIVE_INFINITY, matrix.distance(i, j));
+                    assertEquals(List.of(targets.get(j)), matrix.path(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void unreachableTargetHasInfiniteDistance() {
+        Graph<Integer> graph = v -> v < 3 ? List.of(new Edge<>(v, v + 1, 2.0)) : List.of();
+        DistanceMatrix<Integer> matrix = new DistanceMatrix<>(graph, List.of(0, 2), List.of(3, 1, 9));
+        assertArrayEquals(new double[]{6.0, 2.0, Double.POSITIVE_INFINITY}, matrix.distances()[0]);
+        assertArrayEquals(new double[]{2.0, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY},
+                matrix.distances()[1]);
+        assertEquals(List.of(0, 1, 2, 3), matrix.path(0, 0));
+    }
+
+    @Test
+    void emptyTargetsDoNotSearch() {
+        AtomicInteger calls = new AtomicInteger();
+        Graph<Integer> graph = v -> {
+            calls.incrementAndGet();
+            return List.of(new Edge<>(v, v + 1, 1.0));
+        };
+        DistanceMatrix<Integer> matrix = new DistanceMatrix<>(graph, List.of(0, 5), List.of());
+        assertArrayEquals(new double[0], matrix.distances()[0]);
+        assertArrayEquals(new double[0], matrix.distances()[1]);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void searchesUseSuppliedWorkspaces() {
+        Graph<Integer> graph = v -> v < 3 ? List.of(new Edge<>(v, v + 1, 2.0)) : List.of();
+        ThreadLocal<SolverWorkspace<Integer>> workspaces = ThreadLocal.withInitial(SolverWorkspace::new);
+        AtomicInteger supplied = new AtomicInteger();
+        DistanceMatrix<Integer> matrix = new DistanceMatrix<>(graph, List.of(0, 1, 2), List.of(3),
+                ForkJoinPool.commonPool(), () -> {
+                    supplied.incrementAndGet();
+                    return workspaces.get();
+                });
+        assertEquals(3, supplied.get());
+        assertArrayEquals(new double[]{6.0}, matrix.distances()[0]);
+        assertArrayEquals(new double[]{4.0}, matrix.distances()[1]);
+        assertArrayEquals(new double[]{2.0}, matrix.distances()[2]);
+        assertEquals(List.of(1, 2, 3), matrix.path(1, 0));
+        assertEquals(4, supplied.get());
+    }
+}
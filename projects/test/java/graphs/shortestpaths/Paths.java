@@ -0,0 +1,38 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+
+import java.util.List;
+
+/**
+ * Static helpers shared by the shortest path tests for checking the paths that solvers return.
+ */
+final class Paths {
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private Paths() {
+    }
+
+    /**
+     * Returns the total weight of the cheapest edges along the given path.
+     *
+     * @param graph the input graph.
+     * @param path  the list of vertices on the path.
+     * @return the total weight of the path.
+     */
+    static double cost(Graph<Integer> graph, List<Integer> path) {
+        double result = 0.0;
+        for (int i = 1; i < path.size(); i += 1) {
+            double best = Double.POSITIVE_INFINITY;
+            for (Edge<Integer> e : graph.neighbors(path.get(i - 1))) {
+                if (e.to.equals(path.get(i))) {
+                    best = Math.min(best, e.weight);
+                }
+            }
+            result += best;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SPFASolver} class on graphs with negative edge weights, using each queue discipline.
+ *
+ * @see SPFASolver
+ */
+public class SPFASolverTests {
+    /**
+     * Returns a graph with the given edges, each given as a from vertex, a to vertex and a weight.
+     *
+     * @param edges the edges of the graph.
+     * @return a graph with the given edges.
+     */
+    private static Graph<Integer> graph(int[]... edges) {
+        Map<Integer, List<Edge<Integer>>> neighbors = new HashMap<>();
+        for (int[] e : edges) {
+            neighbors.computeIfAbsent(e[0], k -> new ArrayList<>()).add(new Edge<>(e[0], e[1], e[2]));
+        }
+        return v -> neighbors.getOrDefault(v, List.of());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SPFASolver.QueueDiscipline.class)
+    void negativeEdgeShortensPath(SPFASolver.QueueDiscipline discipline) {
+        Graph<Integer> graph = graph(new int[]{0, 1, 4}, new int[]{0, 2, 1}, new int[]{1, 3, 1}, new int[]{2, 3, 5},
+                new int[]{1, 2, -4});
+        SPFASolver<Integer> solver = new SPFASolver<>(graph, 0, discipline);
+        assertEquals(List.of(), solver.negativeCycle());
+        assertEquals(List.of(0, 1, 2), solver.solution(2));
+        assertEquals(List.of(0, 1, 3), solver.solution(3));
+        assertEquals(List.of(4), solver.solution(4));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SPFASolver.QueueDiscipline.class)
+    void negativeCycleIsReported(SPFASolver.QueueDiscipline discipline) {
+        Graph<Integer> graph = graph(new int[]{0, 1, 1}, new int[]{1, 2, 1}, new int[]{2, 3, -2},
+                new int[]{3, 1, -1}, new int[]{3, 4, 1});
+        SPFASolver<Integer> solver = new SPFASolver<>(graph, 0, discipline);
+        List<Integer> cycle = new ArrayList<>(solver.negativeCycle());
+        assertEquals(3, cycle.size());
+        Collections.rotate(cycle, -cycle.indexOf(1));
+        assertEquals(List.of(1, 2, 3), cycle);
+        assertThrows(IllegalStateException.class, () -> solver.solution(4));
+    }
+}
@@ -0,0 +1,150 @@
+package graphs.shortestpaths;
+
+import graphs.AStarGraph;
+import graphs.Edge;
+import graphs.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+
+import static graphs.shortestpaths.Paths.cost;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SolverWorkspace} class, including reusing one workspace across queries and graphs.
+ *
+ * @see SolverWorkspace
+ */
+public class SolverWorkspaceTests {
+    @Test
+    void withinReturnsExactlyTheVerticesInRange() {
+        int size = 100;
+        // A grid with edges to the right and down whose weights depend on the vertex.
+        Graph<Integer> graph = v -> {
+            List<Edge<Integer>> result = new ArrayList<>();
+            if (v % size + 1 < size) {
+                result.add(new Edge<>(v, v + 1, 1 + v % 3));
+            }
+            if (v / size + 1 < size) {
+                result.add(new Edge<>(v, v + size, 1 + v % 5));
+            }
+            return result;
+        };
+        SolverWorkspace<Integer> workspace = new SolverWorkspace<>();
+        DijkstraSolver<Integer> solver = new DijkstraSolver<>(graph, 0);
+        for (double maxDistance : new double[]{0, 7, 30, 1000}) {
+            Set<Integer> within = new HashSet<>(workspace.within(graph, 0, maxDistance));
+            for (int v = 0; v < size * size; v += 1) {
+                double dist = cost(graph, solver.solution(v));
+                assertEquals(dist <= maxDistance, within.contains(v), "vertex " + v);
+                if (dist <= maxDistance) {
+                    assertEquals(dist, workspace.distTo(v));
+                }
+            }
+        }
+    }
+
+    @Test
+    void withinDoesNotExploreBeyondTheCutoff() {
+        int[] calls = new int[1];
+        Graph<Integer> graph = v -> {
+            calls[0] += 1;
+            return List.of(new Edge<>(v, v + 1, 1.0));
+        };
+        List<Integer> within = new SolverWorkspace<Integer>().within(graph, 0, 10.5);
+        assertEquals(11, within.size());
+        assertEquals(11, calls[0]);
+    }
+
+    @Test
+    void aStarReopensVerticesSettledByAWorsePath() {
+        // The heuristic is admissible but inconsistent: it makes 3 look close and 1 look far, so 3 is first settled
+        // through 2 at distance 4 and must be reopened once 1 offers a path of distance 2.
+        Map<Integer, List<Edge<Integer>>> neighbors = Map.of(
+                0, List.of(new Edge<>(0, 1, 1.0), new Edge<>(0, 2, 1.0)),
+                1, List.of(new Edge<>(1, 3, 1.0)),
+                2, List.of(new Edge<>(2, 3, 3.0)),
+                3, List.of(new Edge<>(3, 4, 3.0)));
+        double[] estimates = {5.0, 4.0, 1.0, 0.0, 0.0};
+        AStarGraph<Integer> graph = new AStarGraph<>() {
+            @Override
+            public List<Edge<Integer>> neighbors(Integer v) {
+                return neighbors.getOrDefault(v, List.of());
+            }
+
+            @Override
+            public double estimatedDistance(Integer start, Integer end) {
+                return estimates[start];
+            }
+        };
+        SolverWorkspace<Integer> workspace = new SolverWorkspace<>();
+        assertEquals(List.of(0, 1, 3, 4), workspace.aStar(graph, 0, 4));
+        assertEquals(5.0, workspace.distTo(4));
+        assertEquals(2.0, workspace.distTo(3));
+    }
+
+    @Test
+    void staleSolverThrowsAfterReuse() {
+        Graph<Integer> graph = v -> v < 5 ? List.of(new Edge<>(v, v + 1, 1.0)) : List.of();
+        SolverWorkspace<Integer> workspace = new SolverWorkspace<>();
+        ShortestPathSolver<Integer> solver = workspace.dijkstra(graph, 0);
+        assertEquals(List.of(0, 1, 2, 3), solver.solution(3));
+        workspace.dijkstra(graph, 2, 4);
+        assertThrows(IllegalStateException.class, () -> solver.solution(3));
+        ShortestPathSolver<Integer> next = workspace.dijkstra(graph, 1);
+        workspace.within(graph, 0, 2.0);
+        assertThrows(IllegalStateException.class, () -> next.solution(3));
+        ShortestPathSolver<Integer> last = workspace.dijkstra(graph, 1);
+        workspace.distances(graph, 0, List.of(5));
+        assertThrows(IllegalStateException.class, () -> last.solution(3));
+    }
+
+    @Test
+    void reuseAcrossDifferentGraphsMatchesDijkstraSolver() {
+        Random random = new Random(373);
+        SolverWorkspace<Integer> workspace = new SolverWorkspace<>();
+        // Alternate between large and small graphs so later queries run on arrays grown by earlier ones.
+        for (int n : new int[]{2000, 10, 500, 3, 2000}) {
+            List<List<Edge<Integer>>> neighbors = new ArrayList<>();
+            for (int i = 0; i < n; i += 1) {
+                neighbors.add(new ArrayList<>());
+            }
+            for (int i = 0; i < 3 * n; i += 1) {
+                int from = random.nextInt(n);
+                int to = random.nextInt(n);
+                neighbors.get(from).add(new Edge<>(from, to, random.nextInt(100)));
+            }
+            Graph<Integer> graph = neighbors::get;
+            DijkstraSolver<Integer> expected = new DijkstraSolver<>(graph, 0);
+            ShortestPathSolver<Integer> actual = workspace.dijkstra(graph, 0);
+            for (int v = 0; v < n; v += 1) {
+                List<Integer> path = expected.solution(v);
+                if (path.get(0) == 0) {
+                    assertEquals(cost(graph, path), cost(graph, actual.solution(v)), 1e-9);
+                    assertEquals(cost(graph, path), workspace.distTo(v), 1e-9);
+                } else {
+                    assertEquals(List.of(v), actual.solution(v));
+                    assertEquals(Double.POSITIVE_INFINITY, workspace.distTo(v));
+                }
+            }
+            // Vertices only in graphs from earlier queries must not leak into this one.
+            assertEquals(Double.POSITIVE_INFINITY, workspace.distTo(n));
+        }
+    }
+
+    @Test
+    void resetOnlyClearsVerticesTouchedByThePreviousQuery() {
+        int n = 500000;
+        Graph<Integer> graph = v -> List.of(new Edge<>(v, v + 1, 1.0));
+        SolverWorkspace<Integer> workspace = new SolverWorkspace<>();
+        assertEquals(n + 1, workspace.within(graph, 0, n).size());
+        // Clearing the whole grown arrays on every query would make these small queries take minutes.
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 100000; i += 1) {
+                assertEquals(List.of(0, 1, 2), workspace.dijkstra(graph, 0, 2));
+            }
+        });
+        assertEquals(Double.POSITIVE_INFINITY, workspace.distTo(100));
+    }
+}
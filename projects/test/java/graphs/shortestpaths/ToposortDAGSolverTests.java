@@ -0,0 +1,57 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static graphs.shortestpaths.Paths.cost;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ToposortDAGSolver} class on graphs that are too long to search recursively.
+ *
+ * @see ToposortDAGSolver
+ */
+public class ToposortDAGSolverTests {
+    @Test
+    void longChainDoesNotOverflowStack() {
+        int n = 1_000_000;
+        Graph<Integer> graph = v -> v + 1 < n ? List.of(new Edge<>(v, v + 1, 1.0)) : List.of();
+        List<Integer> path = new ToposortDAGSolver<>(graph, 0).solution(n - 1);
+        assertEquals(n, path.size());
+        assertEquals(0, path.get(0));
+        assertEquals(n - 1, path.get(n - 1));
+    }
+
+    @Test
+    void parallelLevelsMatchSequential() {
+        int width = 1000;
+        int height = 100;
+        Graph<Integer> graph = v -> {
+            if (v / width + 1 == height) {
+                return List.of();
+            }
+            int x = v % width;
+            return List.of(
+                    new Edge<>(v, v + width + (x > 0 ? -1 : 0), (v * 7) % 5),
+                    new Edge<>(v, v + width, (v * 11) % 5),
+                    new Edge<>(v, v + width + (x < width - 1 ? 1 : 0), (v * 13) % 5)
+            );
+        };
+        ToposortDAGSolver<Integer> sequential = new ToposortDAGSolver<>(graph, width / 2);
+        ToposortDAGSolver<Integer> parallel = new ToposortDAGSolver<>(graph, width / 2, ForkJoinPool.commonPool());
+        for (int x = 0; x < width; x += 1) {
+            int goal = (height - 1) * width + x;
+            assertEquals(cost(graph, sequential.solution(goal)), cost(graph, parallel.solution(goal)));
+        }
+    }
+
+    @Test
+    void cycleThrowsException() {
+        Graph<Integer> graph = v -> v < 5 ? List.of(new Edge<>(v, v == 4 ? 2 : v + 1, 1.0)) : List.of();
+        assertThrows(IllegalArgumentException.class, () -> new ToposortDAGSolver<>(graph, 0));
+    }
+}
@@ -0,0 +1,41 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BTreeMinPQ} class.
+ *
+ * @see BTreeMinPQ
+ */
+public class BTreeMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new BTreeMinPQ<>();
+    }
+
+    @Test
+    public void manyElementsMatchReference() {
+        // Enough elements for the tree to grow several levels deep and then shrink as leaves empty.
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = new BTreeMinPQ<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 200000; i += 1) {
+            int element = random.nextInt(50000);
+            double priority = random.nextInt(1000);
+            reference.addOrChangePriority(element, priority);
+            testing.addOrChangePriority(element, priority);
+            if (random.nextInt(4) == 0) {
+                assertEquals(reference.removeMin(), testing.removeMin());
+            }
+        }
+        assertEquals(reference.size(), testing.size());
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+    }
+}
@@ -1,6 +1,8 @@
 package minpq;
 
 import org.eclipse.jetty.util.Index;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -126,6 +128,136 @@ public abstract class MinPQTests {
         }
     }
 
+    @Test
+    public void addAllMatchesReference() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 100; i += 1) {
+            double priority = random.nextDouble();
+            reference.add(i, priority);
+            testing.add(i, priority);
+        }
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        for (int i = 100; i < 1000; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble());
+        }
+        reference.addAll(elementsAndPriorities);
+        testing.addAll(elementsAndPriorities);
+        assertEquals(reference.size(), testing.size());
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void addAllWithPresentElementThrows() {
+        MinPQ<String> testing = createMinPQ();
+        testing.add("a", 1.0);
+        Map<String, Double> elementsAndPriorities = new HashMap<>();
+        elementsAndPriorities.put("b", 2.0);
+        elementsAndPriorities.put("a", 3.0);
+        assertThrows(IllegalArgumentException.class, () -> testing.addAll(elementsAndPriorities));
+        assertEquals(1, testing.size());
+        assertEquals(1.0, testing.getPriority("a"));
+    }
+
+    @Test
+    public void removeMinManyMatchesReference() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            double priority = random.nextDouble();
+            reference.add(i, priority);
+            testing.add(i, priority);
+        }
+        for (int numElements : new int[]{0, 1, 10, 250, 1000}) {
+            List<Integer> expected = reference.removeMin(numElements);
+            assertEquals(expected, testing.removeMin(numElements));
+            assertEquals(reference.size(), testing.size());
+            if (!reference.isEmpty()) {
+                assertEquals(reference.peekMin(), testing.peekMin());
+            }
+        }
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void changePrioritiesMatchesReference() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            double priority = random.nextDouble();
+            reference.add(i, priority);
+            testing.add(i, priority);
+        }
+        // Small batches may update elements individually, while large batches may rebuild the priority queue.
+        for (int numChanges : new int[]{1, 10, 1000}) {
+            Map<Integer, Double> changes = new LinkedHashMap<>();
+            for (int i = 0; i < numChanges; i += 1) {
+                changes.put(random.nextInt(1000), random.nextDouble());
+            }
+            reference.changePriorities(changes);
+            testing.changePriorities(changes);
+            assertEquals(reference.size(), testing.size());
+            for (int element : changes.keySet()) {
+                assertEquals(reference.getPriority(element), testing.getPriority(element));
+            }
+            assertEquals(reference.peekMin(), testing.peekMin());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void changePrioritiesWithMissingElementThrows() {
+        MinPQ<Integer> testing = createMinPQ();
+        testing.add(1, 1.0);
+        testing.add(2, 2.0);
+        Map<Integer, Double> changes = new LinkedHashMap<>();
+        changes.put(1, 3.0);
+        changes.put(3, 0.5);
+        assertThrows(NoSuchElementException.class, () -> testing.changePriorities(changes));
+        assertEquals(1.0, testing.getPriority(1));
+        assertEquals(1, testing.peekMin());
+    }
+
+    @Test
+    public void drainToMatchesReference() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            double priority = random.nextDouble();
+            reference.add(i, priority);
+            testing.add(i, priority);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(0, testing.drainTo(drained, 0));
+        assertEquals(250, testing.drainTo(drained, 250));
+        assertEquals(750, testing.drainTo(drained, 2000));
+        assertEquals(reference.removeMin(1000), drained);
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void equalPrioritiesRemovedInInsertionOrder() {
+        MinPQ<Integer> testing = createMinPQ();
+        for (int i = 0; i < 10; i += 1) {
+            testing.add(i, i % 3);
+        }
+        // Changing a priority value moves the element behind its new ties, but an unchanged value keeps its place.
+        testing.changePriority(0, 1.0);
+        testing.changePriority(4, 1.0);
+        assertEquals(List.of(3, 6, 9, 1, 4, 7, 0, 2, 5, 8), testing.removeMin(10));
+        assertTrue(testing.isEmpty());
+    }
+
     @Test
     public void randWCAGTags() throws IOException {
         MinPQ<String> pq = createMinPQ();
@@ -199,4 +331,62 @@ public abstract class MinPQTests {
             System.out.println("Removed: " + pq.removeMin());
         }
     }
+
+    @Disabled
+    @Nested
+    class RuntimeExperiments {
+        /**
+         * Number of trials per implementation run. Making this smaller means experiments run faster.
+         */
+        public static final int NUM_TRIALS = 10;
+        /**
+         * Maximum number of elements to add.
+         */
+        public static final int MAX_SIZE = 100000;
+        /**
+         * Step size increment. Making this smaller means experiments run slower.
+         */
+        public static final int STEP = 5000;
+        /**
+         * Number of decrease-key operations per element, mimicking Dijkstra's algorithm on a dense graph.
+         */
+        public static final int DECREASES_PER_ELEMENT = 8;
+
+        /**
+         * Print the time that it takes to run a decrease-key heavy workload on an increasingly-large priority queue.
+         * The output is comma-separated with columns for priority queue size and workload time (nanoseconds).
+         */
+        @Test
+        void decreaseKeyHeavy() {
+            Random random = new Random(373);
+            for (int size = STEP; size <= MAX_SIZE; size += STEP) {
+                System.out.print(size);
+                System.out.print(',');
+
+                // Record the total runtimes accumulated across all trials
+                long totalTime = 0;
+
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    MinPQ<Integer> pq = createMinPQ();
+                    long start = System.nanoTime();
+                    for (int e = 0; e < size; e += 1) {
+                        pq.add(e, size + random.nextDouble());
+                    }
+                    // Repeatedly lower the priority of random elements, then drain the priority queue
+                    for (int j = 0; j < size * DECREASES_PER_ELEMENT; j += 1) {
+                        int e = random.nextInt(size);
+                        pq.changePriority(e, pq.getPriority(e) - random.nextDouble());
+                    }
+                    while (!pq.isEmpty()) {
+                        pq.removeMin();
+                    }
+                    totalTime += System.nanoTime() - start;
+                }
+
+                // Output the average rounded to the closest integer.
+                System.out.printf("%.0f", totalTime / (double) NUM_TRIALS);
+                System.out.println();
+            }
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package minpq;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MultiQueueMinPQ} class. The inherited tests expect exact removal order, so they run against a
+ * single sub-queue; the stress tests below exercise the relaxed, multi-threaded behavior.
+ *
+ * @see MultiQueueMinPQ
+ */
+public class MultiQueueMinPQTests extends MinPQTests {
+    /**
+     * Number of sub-queues for the stress tests.
+     */
+    private static final int NUM_QUEUES = 8;
+    /**
+     * Number of producer and consumer threads for the stress tests.
+     */
+    private static final int NUM_THREADS = 4;
+
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new MultiQueueMinPQ<>(1);
+    }
+
+    @Test
+    public void relaxedRemoveMinReturnsEveryElementOnce() {
+        MinPQ<Integer> pq = new MultiQueueMinPQ<>(NUM_QUEUES);
+        Random random = new Random(373);
+        int n = 10000;
+        for (int i = 0; i < n; i += 1) {
+            pq.add(i, random.nextDouble());
+        }
+        assertEquals(pq.getPriority(pq.peekMin()), minimumPriority(pq, n));
+        Set<Integer> removed = new HashSet<>();
+        while (!pq.isEmpty()) {
+            assertTrue(removed.add(pq.removeMin()));
+        }
+        assertEquals(n, removed.size());
+        assertThrows(NoSuchElementException.class, pq::removeMin);
+    }
+
+    @Test
+    public void concurrentProducersAndConsumers() throws Exception {
+        MinPQ<Integer> pq = new MultiQueueMinPQ<>(NUM_QUEUES);
+        int perProducer = 20000;
+        int total = perProducer * NUM_THREADS;
+        ConcurrentMap<Integer, Boolean> removed = new ConcurrentHashMap<>();
+        AtomicInteger numRemoved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2 * NUM_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < NUM_THREADS; t += 1) {
+                int offset = t * perProducer;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(offset);
+                    for (int i = offset; i < offset + perProducer; i += 1) {
+                        pq.add(i, random.nextDouble());
+                        try {
+                            // Exercise concurrent priority changes on elements that may already have been removed.
+                            pq.changePriority(i, random.nextDouble());
+                        } catch (NoSuchElementException e) {
+                            // A consumer removed this element first.
+                        }
+                    }
+                }));
+                futures.add(executor.submit(() -> {
+                    while (numRemoved.get() < total) {
+                        try {
+                            Integer element = pq.removeMin();
+                            assertNull(removed.put(element, true), () -> "Removed twice: " + element);
+                            numRemoved.incrementAndGet();
+                        } catch (NoSuchElementException e) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(total, removed.size());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    public void concurrentAddOfSameElementAddsOnce() throws Exception {
+        MinPQ<Integer> pq = new MultiQueueMinPQ<>(NUM_QUEUES);
+        int n = 10000;
+        AtomicInteger numAdded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < NUM_THREADS; t += 1) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < n; i += 1) {
+                        try {
+                            pq.add(i, i);
+                            numAdded.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            // Another thread added this element first.
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(n, numAdded.get());
+        assertEquals(n, pq.size());
+    }
+
+    /**
+     * Returns the minimum priority value among the elements 0 (inclusive) through n (exclusive).
+     *
+     * @param pq the priority queue containing the elements.
+     * @param n  the number of elements.
+     * @return the minimum priority value among the elements.
+     */
+    private static double minimumPriority(MinPQ<Integer> pq, int n) {
+        double result = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i += 1) {
+            result = Math.min(result, pq.getPriority(i));
+        }
+        return result;
+    }
+
+    @Disabled
+    @Nested
+    class ThroughputExperiments {
+        /**
+         * Number of operations per thread per trial.
+         */
+        public static final int OPERATIONS = 200000;
+        /**
+         * Maximum number of producer-consumer thread pairs.
+         */
+        public static final int MAX_THREADS = 16;
+
+        /**
+         * Print the throughput of paired add and removeMin operations for an increasing number of threads. The output
+         * is comma-separated with columns for thread count and operations per second.
+         */
+        @Test
+        void addRemoveMin() throws Exception {
+            for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+                System.out.print(threads);
+                System.out.print(',');
+
+                MinPQ<Integer> pq = new MultiQueueMinPQ<>(2 * threads);
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (int t = 0; t < threads; t += 1) {
+                    int offset = t * OPERATIONS;
+                    tasks.add(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int i = offset; i < offset + OPERATIONS; i += 1) {
+                            pq.add(i, random.nextDouble());
+                            try {
+                                pq.removeMin();
+                            } catch (NoSuchElementException e) {
+                                // Spuriously empty under concurrent modification.
+                            }
+                        }
+                        return null;
+                    });
+                }
+                long start = System.nanoTime();
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+                long time = System.nanoTime() - start;
+                executor.shutdown();
+
+                System.out.printf("%.0f", 2.0 * threads * OPERATIONS / (time / 1e9));
+                System.out.println();
+            }
+        }
+    }
+}
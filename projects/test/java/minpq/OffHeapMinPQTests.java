@@ -0,0 +1,55 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link OffHeapMinPQ} class.
+ *
+ * @see OffHeapMinPQ
+ */
+public class OffHeapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new OffHeapMinPQ<>();
+    }
+
+    @Test
+    public void mapConstructorContainsAllElements() {
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble());
+        }
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>(elementsAndPriorities);
+        MinPQ<Integer> testing = new OffHeapMinPQ<>(elementsAndPriorities);
+        assertEquals(reference.size(), testing.size());
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+    }
+
+    @Test
+    public void footprintGrowsWithSizeAndReusesHandles() {
+        OffHeapMinPQ<Integer> testing = new OffHeapMinPQ<>(0);
+        assertEquals(0, testing.capacity());
+        for (int i = 0; i < 1000; i += 1) {
+            testing.add(i, i);
+        }
+        int capacity = testing.capacity();
+        assertTrue(capacity >= 1000);
+        assertEquals((long) (capacity + 1) * OffHeapMinPQ.BYTES_PER_ENTRY, testing.offHeapBytes());
+        // Removing and adding the same number of elements reuses handles without growing the storage.
+        for (int i = 1000; i < 5000; i += 1) {
+            assertEquals(i - 1000, testing.removeMin());
+            testing.add(i, i);
+        }
+        assertEquals(capacity, testing.capacity());
+        assertEquals(1000, testing.size());
+    }
+}
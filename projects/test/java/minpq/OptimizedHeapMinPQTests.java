@@ -1,5 +1,13 @@
 package minpq;
 
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Tests for the {@link OptimizedHeapMinPQ} class.
  *
@@ -10,4 +18,19 @@ public class OptimizedHeapMinPQTests extends MinPQTests {
     public <E> MinPQ<E> createMinPQ() {
         return new OptimizedHeapMinPQ<>();
     }
+
+    @Test
+    public void mapConstructorContainsAllElements() {
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble());
+        }
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>(elementsAndPriorities);
+        MinPQ<Integer> testing = new OptimizedHeapMinPQ<>(elementsAndPriorities);
+        assertEquals(reference.size(), testing.size());
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RadixHeapMinPQ} class.
+ *
+ * @see RadixHeapMinPQ
+ */
+public class RadixHeapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new RadixHeapMinPQ<>();
+    }
+
+    /**
+     * Monotone variant of the inherited test: every added or changed priority value is no less than the priority value
+     * of the most recently removed minimum element.
+     */
+    @Test
+    @Override
+    public void randomIntegersRandomPriorities() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+
+        int iterations = 10000;
+        int maxElement = 1000;
+        Random random = new Random();
+        double lastRemoved = 0.0;
+        for (int i = 0; i < iterations; i += 1) {
+            boolean shouldRemoveMin = random.nextBoolean();
+            if (shouldRemoveMin && !reference.isEmpty()) {
+                lastRemoved = reference.getPriority(reference.peekMin());
+                assertEquals(reference.removeMin(), testing.removeMin());
+            } else {
+                int element = random.nextInt(maxElement);
+                double priority = lastRemoved + random.nextDouble();
+                reference.addOrChangePriority(element, priority);
+                testing.addOrChangePriority(element, priority);
+            }
+            if (!reference.isEmpty()) {
+                assertEquals(reference.peekMin(), testing.peekMin());
+                assertEquals(reference.size(), testing.size());
+                for (int e = 0; e < maxElement; e += 1) {
+                    if (reference.contains(e)) {
+                        assertTrue(testing.contains(e));
+                        assertEquals(reference.getPriority(e), testing.getPriority(e));
+                    } else {
+                        assertFalse(testing.contains(e));
+                    }
+                }
+            } else {
+                assertTrue(testing.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void priorityBelowLastRemovedThrows() {
+        MinPQ<String> pq = createMinPQ();
+        pq.add("a", 1.0);
+        pq.add("b", 3.0);
+        assertEquals("a", pq.removeMin());
+        assertThrows(IllegalArgumentException.class, () -> pq.add("c", 0.5));
+        assertThrows(IllegalArgumentException.class, () -> pq.changePriority("b", 0.5));
+        assertEquals(3.0, pq.getPriority("b"));
+        pq.changePriority("b", 1.0);
+        assertEquals("b", pq.removeMin());
+    }
+
+    @Test
+    public void negativePriorityThrows() {
+        MinPQ<String> pq = createMinPQ();
+        assertThrows(IllegalArgumentException.class, () -> pq.add("a", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> pq.add("a", Double.NaN));
+        pq.add("a", -0.0);
+        assertEquals("a", pq.removeMin());
+    }
+}
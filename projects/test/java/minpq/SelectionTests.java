@@ -0,0 +1,34 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Selection} class.
+ *
+ * @see Selection
+ */
+public class SelectionTests {
+    @Test
+    public void smallestMatchesReference() {
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 10000; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble());
+        }
+        for (int numElements : new int[]{0, 1, 10, 1000, 10000, 20000}) {
+            List<Integer> expected = new DoubleMapMinPQ<>(elementsAndPriorities).removeMin(numElements);
+            assertEquals(expected, Selection.smallest(elementsAndPriorities, numElements));
+        }
+        assertEquals(10000, elementsAndPriorities.size());
+    }
+
+    @Test
+    public void smallestWhenEmptyReturnsEmpty() {
+        assertTrue(Selection.smallest(Map.of(), 10).isEmpty());
+        assertTrue(Selection.smallest(Map.of("a", 1.0), -1).isEmpty());
+    }
+}
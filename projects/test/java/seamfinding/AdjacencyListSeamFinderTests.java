@@ -1,9 +1,16 @@
 package seamfinding;
 
+import graphs.shortestpaths.BellmanFordSolver;
+import graphs.shortestpaths.DeltaSteppingSolver;
 import graphs.shortestpaths.DijkstraSolver;
+import graphs.shortestpaths.SPFASolver;
+import graphs.shortestpaths.SolverWorkspace;
 import graphs.shortestpaths.ToposortDAGSolver;
+import minpq.RadixHeapMinPQ;
 import org.junit.jupiter.api.Nested;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Tests for the {@link AdjacencyListSeamFinder} class.
  *
@@ -22,6 +29,17 @@ public class AdjacencyListSeamFinderTests {
         }
     }
 
+    /**
+     * Tests using the {@link DijkstraSolver} implementation with a {@link RadixHeapMinPQ} perimeter.
+     */
+    @Nested
+    public class UsingDijkstraSolverWithRadixHeap extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder((graph, start) -> new DijkstraSolver<>(graph, start, RadixHeapMinPQ::new));
+        }
+    }
+
     /**
      * Tests using the {@link ToposortDAGSolver} implementation.
      */
@@ -32,4 +50,61 @@ public class AdjacencyListSeamFinderTests {
             return new AdjacencyListSeamFinder(ToposortDAGSolver::new);
         }
     }
+
+    /**
+     * Tests using the {@link ToposortDAGSolver} implementation relaxing each level in parallel.
+     */
+    @Nested
+    public class UsingToposortDAGSolverInParallel extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder((graph, start) ->
+                    new ToposortDAGSolver<>(graph, start, ForkJoinPool.commonPool()));
+        }
+    }
+
+    /**
+     * Tests using a single {@link SolverWorkspace} reused across every query.
+     */
+    @Nested
+    public class UsingSolverWorkspace extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(new SolverWorkspace<Node>()::dijkstra);
+        }
+    }
+
+    /**
+     * Tests using the {@link DeltaSteppingSolver} implementation.
+     */
+    @Nested
+    public class UsingDeltaSteppingSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(DeltaSteppingSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link BellmanFordSolver} implementation.
+     */
+    @Nested
+    public class UsingBellmanFordSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(BellmanFordSolver::new);
+        }
+    }
+
+    /**
+     * Tests using the {@link SPFASolver} implementation with the small label first and large label last rules.
+     */
+    @Nested
+    public class UsingSPFASolverWithSlfLll extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder((graph, start) ->
+                    new SPFASolver<>(graph, start, SPFASolver.QueueDiscipline.SLF_LLL));
+        }
+    }
 }